@@ -1,5 +1,6 @@
 package com.minkyu.samplebatch;
 
+import com.minkyu.samplebatch.cli.JobCommandLine;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -8,6 +9,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @SpringBootApplication
 public class SampleBatchApplication {
     public static void main(String[] args) {
+        // --job=<이름> 인자가 있으면 웹 서버 없이 Job 하나만 실행하고 종료
+        if (JobCommandLine.isCommandLine(args)) {
+            System.exit(JobCommandLine.run(SampleBatchApplication.class, args));
+        }
         SpringApplication.run(SampleBatchApplication.class, args);
     }
 }
\ No newline at end of file
@@ -2,18 +2,26 @@ package com.minkyu.samplebatch.api.controller;
 
 import com.minkyu.samplebatch.api.dto.request.JobLaunchRequest;
 import com.minkyu.samplebatch.api.dto.request.JobRegistrationRequest;
+import com.minkyu.samplebatch.api.dto.response.DryRunResponse;
 import com.minkyu.samplebatch.api.dto.response.JobExecutionResponse;
+import com.minkyu.samplebatch.api.dto.response.ThrottleResponse;
 import com.minkyu.samplebatch.api.exception.ErrorResponse;
 import com.minkyu.samplebatch.api.service.JobManagementService;
+import com.minkyu.samplebatch.common.cancel.StopMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.PositiveOrZero;
 import javax.validation.constraints.Positive;
 
 @Tag(name = "Batch Job API", description = "배치 작업 관리 API")
@@ -67,6 +76,15 @@ public class JobController {
         return ResponseEntity.ok(jobManagementService.launchJob(jobName, request));
     }
 
+    @Operation(summary = "Job 실행 비용 추정", description = "Person id 범위의 표본 구간만 실제 reader/processor로 처리하여 "
+            + "예상 실행 시간, 권장 Chunk/파티션 크기, 예상 SQL 수를 반환합니다. 데이터는 변경하지 않습니다.")
+    @PostMapping("/{jobName}/dry-run")
+    public ResponseEntity<DryRunResponse> dryRunJob(
+            @PathVariable @NotBlank @Pattern(regexp = "^[a-zA-Z0-9_-]+$") String jobName,
+            @RequestParam(required = false) @Positive Integer sampleSize) {
+        return ResponseEntity.ok(jobManagementService.dryRun(jobName, sampleSize));
+    }
+
     @Operation(summary = "Job 상태 조회", description = "배치 작업의 실행 상태를 조회합니다.")
     @GetMapping("/{jobName}/status/{executionId}")
     public ResponseEntity<JobExecutionResponse> getJobStatus(
@@ -83,12 +101,59 @@ public class JobController {
         return ResponseEntity.ok(jobManagementService.getJobExecutions(jobName, pageable));
     }
 
-    @Operation(summary = "Job 중지", description = "실행 중인 배치 작업을 중지합니다.")
+    @Operation(summary = "Job 중지", description = "실행 중인 배치 작업을 중지합니다. "
+            + "BOUNDED 모드는 유예 시간(gracePeriodMs)이 지나면 실행 중인 SQL을 취소하고 현재 Chunk를 롤백하여 중지합니다.")
     @PostMapping("/{jobName}/stop/{executionId}")
     public ResponseEntity<Void> stopJob(
             @PathVariable @NotBlank @Pattern(regexp = "^[a-zA-Z0-9_-]+$") String jobName,
-            @PathVariable @Positive Long executionId) throws Exception {
-        jobManagementService.stopJob(jobName, executionId);
+            @PathVariable @Positive Long executionId,
+            @RequestParam(defaultValue = "GRACEFUL") StopMode mode,
+            @RequestParam(defaultValue = "5000") @PositiveOrZero Long gracePeriodMs) throws Exception {
+        jobManagementService.stopJob(jobName, executionId, mode, gracePeriodMs);
         return ResponseEntity.ok().build();
     }
+
+    @Operation(summary = "JFR 레코딩 시작", description = "실행 중인 배치 작업에 대해 JFR 레코딩을 시작합니다. 작업 종료 시 레코딩도 종료됩니다.")
+    @PostMapping("/{jobName}/recordings/{executionId}")
+    public ResponseEntity<Void> startRecording(
+            @PathVariable @NotBlank @Pattern(regexp = "^[a-zA-Z0-9_-]+$") String jobName,
+            @PathVariable @Positive Long executionId) {
+        jobManagementService.startRecording(jobName, executionId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    @Operation(summary = "JFR 레코딩 다운로드", description = "종료된 배치 작업의 JFR 레코딩 파일을 내려받습니다. 레코딩 중이면 202를 반환합니다.")
+    @GetMapping("/{jobName}/recordings/{executionId}")
+    public ResponseEntity<Resource> getRecording(
+            @PathVariable @NotBlank @Pattern(regexp = "^[a-zA-Z0-9_-]+$") String jobName,
+            @PathVariable @Positive Long executionId) {
+        if (jobManagementService.isRecording(executionId)) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+        }
+        return jobManagementService.getRecording(jobName, executionId)
+                .<ResponseEntity<Resource>>map(file -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                "attachment; filename=\"" + file.getFileName() + "\"")
+                        .body(new FileSystemResource(file)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "쓰기 제한 조회", description = "실행 중인 배치 작업의 쓰기 상한과 현재 허용량을 조회합니다.")
+    @GetMapping("/{jobName}/throttle/{executionId}")
+    public ResponseEntity<ThrottleResponse> getThrottle(
+            @PathVariable @NotBlank @Pattern(regexp = "^[a-zA-Z0-9_-]+$") String jobName,
+            @PathVariable @Positive Long executionId) {
+        return ResponseEntity.ok(jobManagementService.getThrottle(jobName, executionId));
+    }
+
+    @Operation(summary = "쓰기 제한 변경", description = "실행 중인 배치 작업의 초당 쓰기 상한을 변경합니다. "
+            + "과부하가 감지되면 상한 아래로 자동 감속하고 회복되면 상한까지 다시 올립니다.")
+    @PutMapping("/{jobName}/throttle/{executionId}")
+    public ResponseEntity<ThrottleResponse> updateThrottle(
+            @PathVariable @NotBlank @Pattern(regexp = "^[a-zA-Z0-9_-]+$") String jobName,
+            @PathVariable @Positive Long executionId,
+            @RequestParam @Positive Double limit) {
+        return ResponseEntity.ok(jobManagementService.updateThrottle(jobName, executionId, limit));
+    }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.minkyu.samplebatch.api.dto.request;
 
+import com.minkyu.samplebatch.job.dag.StepDefinition;
+import com.minkyu.samplebatch.job.rule.PersonRule;
 import lombok.Getter;
 import lombok.Setter;
 
+import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
+import java.util.List;
 import java.util.Map;
 
 @Getter
@@ -21,4 +25,14 @@ public class JobRegistrationRequest {
     private Map<String, String> defaultParameters;
 
     private String cronExpression;  // 스케줄링이 필요한 경우
+
+    private Boolean faultTolerant;  // 장애 허용 모드 (미지정 시 batch.fault-tolerance.enabled)
+
+    private Boolean enrichment;  // 이메일 도메인으로 소속 기관 보강 (미지정 시 batch.enrichment.enabled)
+
+    @Valid
+    private List<PersonRule> rules;  // 변환/필터 규칙 (미지정 시 email 대문자 변환)
+
+    @Valid
+    private List<StepDefinition> steps;  // Step DAG (미지정 시 단일 Step)
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.minkyu.samplebatch.api.dto.response;
+
+import com.minkyu.samplebatch.job.dryrun.DryRunEstimate;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+public class DryRunResponse {
+    private String jobName;
+    private int sampledItems;
+    private long estimatedRows;
+    private long projectedRuntimeMs;
+    // 95% 신뢰 구간의 절반 폭
+    private long projectedRuntimeMarginMs;
+    private int currentChunkSize;
+    private int suggestedChunkSize;
+    private int suggestedPartitions;
+    private long estimatedHeapPerChunkBytes;
+    private long expectedStatements;
+    private List<StepEstimate> steps;
+
+    public static DryRunResponse from(String jobName, DryRunEstimate estimate) {
+        return DryRunResponse.builder()
+                .jobName(jobName)
+                .sampledItems(estimate.sampledItems())
+                .estimatedRows(estimate.estimatedRows())
+                .projectedRuntimeMs(estimate.projectedRuntimeMs())
+                .projectedRuntimeMarginMs(estimate.projectedRuntimeMarginMs())
+                .currentChunkSize(estimate.currentChunkSize())
+                .suggestedChunkSize(estimate.suggestedChunkSize())
+                .suggestedPartitions(estimate.suggestedPartitions())
+                .estimatedHeapPerChunkBytes(estimate.estimatedHeapPerChunkBytes())
+                .expectedStatements(estimate.expectedStatements())
+                .steps(estimate.steps().stream()
+                        .map(StepEstimate::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class StepEstimate {
+        private String stepName;
+        private double readNanosPerItem;
+        private double processNanosPerItem;
+        private double writeNanosPerItem;
+        private double allocatedBytesPerItem;
+        // processor가 걸러낸 항목 비율
+        private double filterRatio;
+        // 쓰기 대상 중 값이 바뀌어 UPDATE가 필요한 비율
+        private double dirtyRatio;
+        private long projectedRuntimeMs;
+        private long readStatements;
+        private long processStatements;
+        private long writeStatements;
+        private long repositoryStatements;
+
+        static StepEstimate from(DryRunEstimate.StepEstimate step) {
+            return StepEstimate.builder()
+                    .stepName(step.stepName())
+                    .readNanosPerItem(step.readNanosPerItem())
+                    .processNanosPerItem(step.processNanosPerItem())
+                    .writeNanosPerItem(step.writeNanosPerItem())
+                    .allocatedBytesPerItem(step.allocatedBytesPerItem())
+                    .filterRatio(step.filterRatio())
+                    .dirtyRatio(step.dirtyRatio())
+                    .projectedRuntimeMs(step.projectedRuntimeMs())
+                    .readStatements(step.readStatements())
+                    .processStatements(step.processStatements())
+                    .writeStatements(step.writeStatements())
+                    .repositoryStatements(step.repositoryStatements())
+                    .build();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.minkyu.samplebatch.api.dto.response;
 
+import com.minkyu.samplebatch.common.fault.FaultToleranceListener;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ public class JobExecutionResponse {
     private LocalDateTime endTime;
     private String exitCode;
     private String exitDescription;
+    private int skipCount;
+    private long retryCount;
 
     public static JobExecutionResponse from(JobExecution jobExecution) {
         return JobExecutionResponse.builder()
@@ -32,6 +36,13 @@ public class JobExecutionResponse {
                         .orElse(null))
                 .exitCode(jobExecution.getExitStatus().getExitCode())
                 .exitDescription(jobExecution.getExitStatus().getExitDescription())
+                .skipCount(jobExecution.getStepExecutions().stream()
+                        .mapToInt(StepExecution::getSkipCount)
+                        .sum())
+                .retryCount(jobExecution.getStepExecutions().stream()
+                        .mapToLong(stepExecution -> stepExecution.getExecutionContext()
+                                .getLong(FaultToleranceListener.RETRY_COUNT_KEY, 0L))
+                        .sum())
                 .build();
     }
 }
\ No newline at end of file
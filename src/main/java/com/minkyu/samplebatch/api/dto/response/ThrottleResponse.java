@@ -0,0 +1,25 @@
+package com.minkyu.samplebatch.api.dto.response;
+
+import com.minkyu.samplebatch.common.throttle.WriteThrottle;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ThrottleResponse {
+    private Long executionId;
+    private String unit;
+    private double limit;
+    private double currentRate;
+    private long backoffCount;
+
+    public static ThrottleResponse from(Long executionId, WriteThrottle throttle) {
+        return ThrottleResponse.builder()
+                .executionId(executionId)
+                .unit(throttle.getUnit().name())
+                .limit(throttle.getLimit())
+                .currentRate(throttle.getRate())
+                .backoffCount(throttle.getBackoffCount())
+                .build();
+    }
+}
\ No newline at end of file
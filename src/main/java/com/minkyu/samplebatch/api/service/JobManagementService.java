@@ -2,10 +2,35 @@ package com.minkyu.samplebatch.api.service;
 
 import com.minkyu.samplebatch.api.dto.request.JobLaunchRequest;
 import com.minkyu.samplebatch.api.dto.request.JobRegistrationRequest;
+import com.minkyu.samplebatch.api.dto.response.DryRunResponse;
 import com.minkyu.samplebatch.api.dto.response.JobExecutionResponse;
+import com.minkyu.samplebatch.api.dto.response.ThrottleResponse;
+import com.minkyu.samplebatch.common.cancel.CancellationListener;
+import com.minkyu.samplebatch.common.cancel.CancellationRegistry;
+import com.minkyu.samplebatch.common.cancel.InFlightStatementCanceller;
+import com.minkyu.samplebatch.common.cancel.StopMode;
+import com.minkyu.samplebatch.common.enrich.BulkLookupProcessor;
 import com.minkyu.samplebatch.common.exception.BatchException;
+import com.minkyu.samplebatch.common.fault.FaultToleranceProperties;
+import com.minkyu.samplebatch.common.fault.StepFaultTolerance;
 import com.minkyu.samplebatch.common.monitoring.BatchMetrics;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceListener;
+import com.minkyu.samplebatch.common.monitoring.StepMetricsListener;
+import com.minkyu.samplebatch.common.monitoring.jfr.FlightRecorderListener;
+import com.minkyu.samplebatch.common.monitoring.jfr.FlightRecordingService;
+import com.minkyu.samplebatch.common.throttle.ThrottleProperties;
+import com.minkyu.samplebatch.common.throttle.ThrottleRegistry;
+import com.minkyu.samplebatch.common.throttle.WriteThrottle;
+import com.minkyu.samplebatch.common.throttle.WriteThrottleListener;
 import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.dag.DagFlowFactory;
+import com.minkyu.samplebatch.job.dryrun.DryRunEstimator;
+import com.minkyu.samplebatch.job.enrich.EnrichmentProperties;
+import com.minkyu.samplebatch.job.enrich.PersonEnrichmentConfig;
+import com.minkyu.samplebatch.job.rule.PersonRule;
+import com.minkyu.samplebatch.job.rule.PersonRuleCompiler;
+import com.minkyu.samplebatch.job.sample.chunk.SampleJdbcWriter;
+import com.minkyu.samplebatch.job.sample.chunk.SampleProcessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
@@ -14,23 +39,34 @@ import org.springframework.batch.core.configuration.annotation.JobBuilderFactory
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.support.ReferenceJobFactory;
 import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.JobFlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
-import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.PostConstruct;
 import javax.persistence.EntityManagerFactory;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,12 +74,37 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JobManagementService {
 
+    private static final String SAMPLE_JOB_NAME = "sampleJob";
+    private static final int CHUNK_SIZE = 10;
+
     private final JobLauncher jobLauncher;
-    private final JobRepository jobRepository;
     private final JobExplorer jobExplorer;
     private final JobOperator jobOperator;
     private final JobRegistry jobRegistry;
     private final BatchMetrics batchMetrics;
+    private final BatchTraceListener traceListener;
+    private final FlightRecorderListener flightRecorderListener;
+    private final FlightRecordingService flightRecordingService;
+    private final CancellationRegistry cancellationRegistry;
+    private final CancellationListener cancellationListener;
+    private final InFlightStatementCanceller statementCanceller;
+    private final TaskScheduler taskScheduler;
+    private final ThrottleRegistry throttleRegistry;
+    private final ThrottleProperties throttleProperties;
+    private final WriteThrottleListener throttleListener;
+    private final StepFaultTolerance stepFaultTolerance;
+    private final FaultToleranceProperties faultToleranceProperties;
+    private final DagFlowFactory dagFlowFactory;
+    private final StepMetricsListener stepMetricsListener;
+    private final BulkLookupProcessor<Person, String, String> personOrganizationProcessor;
+    private final EnrichmentProperties enrichmentProperties;
+    private final PersonEnrichmentConfig personEnrichmentConfig;
+    private final DryRunEstimator dryRunEstimator;
+    private final SampleProcessor sampleProcessor;
+    private final SampleJdbcWriter sampleJdbcWriter;
+
+    // 등록 Job의 요청 (dry run에서 같은 processor를 구성하기 위함)
+    private final Map<String, JobRegistrationRequest> registeredRequests = new ConcurrentHashMap<>();
 
 
     private final JobBuilderFactory jobBuilderFactory;
@@ -73,6 +134,7 @@ public class JobManagementService {
             // Job 설정 생성 및 등록
             Job job = createJob(request);
             jobRegistry.register(new ReferenceJobFactory(job));
+            registeredRequests.put(request.getJobName(), request);
 
             log.info("Job registered successfully: {}", request.getJobName());
 
@@ -90,12 +152,12 @@ public class JobManagementService {
     }
         private Job createJob(JobRegistrationRequest request) {
         try {
-            // Step 생성
-            Step step = createSampleStep(request);
-
             // Job 생성
-            return jobBuilderFactory.get(request.getJobName())
+            JobBuilder jobBuilder = jobBuilderFactory.get(request.getJobName())
                     .incrementer(new RunIdIncrementer())
+                    .listener(flightRecorderListener)
+                    .listener(cancellationListener)
+                    .listener(throttleListener)
                     .listener(new JobExecutionListener() {
                         @Override
                         public void beforeJob(JobExecution jobExecution) {
@@ -108,10 +170,14 @@ public class JobManagementService {
                                     request.getJobName(),
                                     jobExecution.getStatus());
                         }
-                    })
-                    .flow(step)
-                    .end()
-                    .build();
+                    });
+
+            // Step 생성 (steps가 있으면 DAG, 없으면 단일 Step)
+            JobFlowBuilder flowBuilder = request.getSteps() == null || request.getSteps().isEmpty()
+                    ? jobBuilder.flow(createSampleStep(request.getJobName() + "Step", request.getRules(), request))
+                    : jobBuilder.start(createDagFlow(request));
+
+            return flowBuilder.end().build();
         } catch (Exception e) {
             throw new BatchException("JOB_CREATION_FAILED",
                     "Failed to create job: " + request.getJobName(), e);
@@ -119,12 +185,37 @@ public class JobManagementService {
     }
 
 
-    private Step createSampleStep(JobRegistrationRequest request) {
-        return stepBuilderFactory.get(request.getJobName() + "Step")
-                .<Person, Person>chunk(10)
+    private Flow createDagFlow(JobRegistrationRequest request) {
+        return dagFlowFactory.create(request.getJobName(), request.getSteps(), definition ->
+                createSampleStep(DagFlowFactory.stepName(request.getJobName(), definition),
+                        Optional.ofNullable(definition.getRules()).orElse(request.getRules()),
+                        request));
+    }
+
+    private Step createSampleStep(String stepName, List<PersonRule> rules, JobRegistrationRequest request) {
+        boolean enrichment = isEnrichment(request);
+
+        SimpleStepBuilder<Person, Person> builder = stepBuilderFactory.get(stepName)
+                .<Person, Person>chunk(CHUNK_SIZE)
                 .reader(createReader())
-                .processor(createProcessor())
-                .writer(createWriter())
+                .processor(createStepProcessor(rules, enrichment));
+
+        // 보강 processor가 Chunk를 읽는 동안 조회 키를 모으도록 등록
+        if (enrichment) {
+            builder.listener((ItemReadListener<Person>) personOrganizationProcessor);
+        }
+
+        boolean faultTolerant = Optional.ofNullable(request.getFaultTolerant())
+                .orElse(faultToleranceProperties.isEnabled());
+
+        return stepFaultTolerance.apply(builder, createWriter(), sampleJdbcWriter, faultTolerant)
+                .listener((ItemWriteListener<Object>) throttleListener)
+                .listener(traceListener)
+                .listener((ChunkListener) flightRecorderListener)
+                .listener((StepExecutionListener) flightRecorderListener)
+                .listener(cancellationListener)
+                .listener((ChunkListener) throttleListener)
+                .listener(stepMetricsListener)
                 .listener(new StepExecutionListener() {
                     @Override
                     public void beforeStep(StepExecution stepExecution) {
@@ -142,6 +233,24 @@ public class JobManagementService {
                 .build();
     }
 
+    private boolean isEnrichment(JobRegistrationRequest request) {
+        return Optional.ofNullable(request.getEnrichment()).orElse(enrichmentProperties.isEnabled());
+    }
+
+    private ItemProcessor<Person, Person> createStepProcessor(List<PersonRule> rules, boolean enrichment) {
+        return createStepProcessor(rules, enrichment ? personOrganizationProcessor : null);
+    }
+
+    /**
+     * @param organizationProcessor 보강 processor (null이면 보강하지 않음)
+     */
+    private ItemProcessor<Person, Person> createStepProcessor(
+            List<PersonRule> rules, BulkLookupProcessor<Person, String, String> organizationProcessor) {
+        return organizationProcessor != null
+                ? PersonEnrichmentConfig.withOrganization(organizationProcessor, createProcessor(rules))
+                : createProcessor(rules);
+    }
+
     private JpaPagingItemReader<Person> createReader() {
         JpaPagingItemReader<Person> reader = new JpaPagingItemReader<>();
         reader.setEntityManagerFactory(entityManagerFactory);
@@ -157,7 +266,11 @@ public class JobManagementService {
         return reader;
     }
 
-    private ItemProcessor<Person, Person> createProcessor() {
+    private ItemProcessor<Person, Person> createProcessor(List<PersonRule> rules) {
+        // 규칙은 등록 시 한 번 컴파일하여 항목마다 해석하지 않음
+        if (rules != null && !rules.isEmpty()) {
+            return PersonRuleCompiler.compile(rules);
+        }
         return person -> {
             person.updateEmail(person.getEmail().toUpperCase());
             return person;
@@ -179,8 +292,10 @@ public class JobManagementService {
 
     /**
      * Job을 실행합니다.
+     * 인스턴스 존재 여부는 별도로 조회하지 않고 JobRepository가 실행 생성 트랜잭션 안에서 판단합니다.
+     * 외부 트랜잭션으로 감싸면 생성 트랜잭션의 격리 수준이 적용되지 않고 잠금이 Job 실행 내내 유지되므로
+     * 트랜잭션 없이 호출합니다.
      */
-    @Transactional
     public JobExecutionResponse launchJob(String jobName, JobLaunchRequest request) {
         try {
             log.info("Starting job: {} with parameters: {}", jobName, request);
@@ -189,7 +304,6 @@ public class JobManagementService {
             JobParameters jobParameters = createJobParameters(request);
 
             validateJobParameters(job, jobParameters);
-            validateJobCanRun(jobName, jobParameters);
 
             JobExecution jobExecution = jobLauncher.run(job, jobParameters);
             batchMetrics.recordJobExecution(jobExecution);
@@ -199,6 +313,12 @@ public class JobManagementService {
 
             return JobExecutionResponse.from(jobExecution);
 
+        } catch (JobInstanceAlreadyCompleteException | DuplicateKeyException e) {
+            throw new BatchException("JOB_INSTANCE_EXISTS",
+                    "Job instance already exists with these parameters", e);
+        } catch (JobExecutionAlreadyRunningException e) {
+            throw new BatchException("JOB_ALREADY_RUNNING",
+                    String.format("Job is already running: %s", jobName), e);
         } catch (Exception e) {
             log.error("Failed to launch job: {}", jobName, e);
             throw new BatchException("JOB_LAUNCH_FAILED",
@@ -206,6 +326,62 @@ public class JobManagementService {
         }
     }
 
+    /**
+     * Job을 실제로 실행하지 않고 표본 구간만 읽고 처리하여 실행 시간과 자원 사용량을 추정합니다.
+     * 쓰기는 하지 않으므로 트랜잭션 없이 호출합니다.
+     */
+    public DryRunResponse dryRun(String jobName, Integer sampleSize) {
+        try {
+            log.info("Starting dry run: {} (sample size: {})", jobName, sampleSize);
+            return DryRunResponse.from(jobName,
+                    dryRunEstimator.estimate(createDryRunSteps(jobName), CHUNK_SIZE, sampleSize));
+        } catch (BatchException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to dry run job: {}", jobName, e);
+            throw new BatchException("DRY_RUN_FAILED",
+                    String.format("Failed to dry run job: %s", jobName), e);
+        }
+    }
+
+    private List<DryRunEstimator.SampledStep> createDryRunSteps(String jobName) {
+        // 표본 조회로 실행 중인 Job의 보강 캐시와 지표가 바뀌지 않도록 dry run 전용 processor 사용
+        if (SAMPLE_JOB_NAME.equals(jobName)) {
+            if (!enrichmentProperties.isEnabled()) {
+                return List.of(new DryRunEstimator.SampledStep("sampleStep", sampleProcessor, null));
+            }
+            BulkLookupProcessor<Person, String, String> organizationProcessor =
+                    personEnrichmentConfig.dryRunOrganizationProcessor();
+            return List.of(new DryRunEstimator.SampledStep("sampleStep",
+                    PersonEnrichmentConfig.withOrganization(organizationProcessor, sampleProcessor),
+                    organizationProcessor));
+        }
+
+        JobRegistrationRequest request = registeredRequests.get(jobName);
+        if (request == null) {
+            if (jobRegistry.getJobNames().contains(jobName)) {
+                throw new BatchException("DRY_RUN_NOT_SUPPORTED",
+                        "Dry run is not supported for job: " + jobName);
+            }
+            throw new BatchException("JOB_NOT_FOUND", "Job not found: " + jobName);
+        }
+
+        BulkLookupProcessor<Person, String, String> organizationProcessor = isEnrichment(request)
+                ? personEnrichmentConfig.dryRunOrganizationProcessor()
+                : null;
+        if (request.getSteps() == null || request.getSteps().isEmpty()) {
+            return List.of(new DryRunEstimator.SampledStep(jobName + "Step",
+                    createStepProcessor(request.getRules(), organizationProcessor), organizationProcessor));
+        }
+        return request.getSteps().stream()
+                .map(definition -> new DryRunEstimator.SampledStep(
+                        DagFlowFactory.stepName(jobName, definition),
+                        createStepProcessor(Optional.ofNullable(definition.getRules()).orElse(request.getRules()),
+                                organizationProcessor),
+                        organizationProcessor))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Job의 현재 상태를 조회합니다.
      */
@@ -261,8 +437,18 @@ public class JobManagementService {
      */
     @Transactional
     public void stopJob(String jobName, Long executionId) {
+        stopJob(jobName, executionId, StopMode.GRACEFUL, 0L);
+    }
+
+    /**
+     * 실행 중인 Job을 중지합니다.
+     * BOUNDED 모드는 gracePeriodMs 안에 Chunk 경계에 도달하지 못하면 실행 중인 SQL을 취소하고
+     * 현재 Chunk를 롤백하여 마지막 커밋 지점에서 재시작할 수 있는 STOPPED 상태로 중지합니다.
+     */
+    @Transactional
+    public void stopJob(String jobName, Long executionId, StopMode mode, long gracePeriodMs) {
         try {
-            log.info("Attempting to stop job: {} (execution id: {})", jobName, executionId);
+            log.info("Attempting to stop job: {} (execution id: {}, mode: {})", jobName, executionId, mode);
 
             JobExecution jobExecution = Optional.ofNullable(
                             jobExplorer.getJobExecution(executionId))
@@ -272,9 +458,22 @@ public class JobManagementService {
             validateJobName(jobName, jobExecution);
             validateJobCanBeStopped(jobExecution);
 
+            cancellationRegistry.request(executionId, mode);
+
+            // 확인 후 요청 전에 Job이 끝났다면 afterJob이 이미 지나 요청이 남으므로 바로 제거
+            JobExecution current = jobExplorer.getJobExecution(executionId);
+            if (current == null || !current.isRunning()) {
+                cancellationRegistry.remove(executionId);
+                throw new BatchException("JOB_NOT_RUNNING", "Job finished before the stop request");
+            }
             jobOperator.stop(executionId);
 
-            log.info("Job stopped successfully: {} (execution id: {})", jobName, executionId);
+            if (mode == StopMode.BOUNDED) {
+                taskScheduler.schedule(() -> statementCanceller.cancel(executionId),
+                        Instant.now().plusMillis(gracePeriodMs));
+            }
+
+            log.info("Job stop requested successfully: {} (execution id: {})", jobName, executionId);
 
         } catch (BatchException e) {
             throw e;
@@ -286,6 +485,83 @@ public class JobManagementService {
         }
     }
 
+    /**
+     * 실행 중인 Job에 대해 JFR 레코딩을 시작합니다. 레코딩은 Job 종료 시 함께 종료됩니다.
+     */
+    public void startRecording(String jobName, Long executionId) {
+        JobExecution jobExecution = Optional.ofNullable(
+                        jobExplorer.getJobExecution(executionId))
+                .orElseThrow(() -> new BatchException("JOB_NOT_FOUND",
+                        "Job execution not found: " + executionId));
+
+        validateJobName(jobName, jobExecution);
+        validateJobCanBeStopped(jobExecution);
+
+        flightRecordingService.start(executionId);
+
+        // 확인 후 시작 전에 Job이 끝났다면 afterJob이 이미 지나 레코딩이 종료되지 않으므로 바로 종료
+        JobExecution current = jobExplorer.getJobExecution(executionId);
+        if (current == null || !current.isRunning()) {
+            flightRecordingService.stop(executionId);
+            throw new BatchException("JOB_NOT_RUNNING", "Job finished before the recording started");
+        }
+    }
+
+    /**
+     * Job 실행에 대한 JFR 레코딩 파일을 조회합니다. 레코딩 중이거나 없으면 비어 있습니다.
+     */
+    public Optional<Path> getRecording(String jobName, Long executionId) {
+        JobExecution jobExecution = Optional.ofNullable(
+                        jobExplorer.getJobExecution(executionId))
+                .orElseThrow(() -> new BatchException("JOB_NOT_FOUND",
+                        "Job execution not found: " + executionId));
+
+        validateJobName(jobName, jobExecution);
+
+        return flightRecordingService.getRecordingFile(executionId);
+    }
+
+    public boolean isRecording(Long executionId) {
+        return flightRecordingService.isRecording(executionId);
+    }
+
+    /**
+     * 실행 중인 Job의 쓰기 제한 상태를 조회합니다.
+     */
+    public ThrottleResponse getThrottle(String jobName, Long executionId) {
+        JobExecution jobExecution = Optional.ofNullable(
+                        jobExplorer.getJobExecution(executionId))
+                .orElseThrow(() -> new BatchException("JOB_NOT_FOUND",
+                        "Job execution not found: " + executionId));
+
+        validateJobName(jobName, jobExecution);
+
+        WriteThrottle throttle = Optional.ofNullable(throttleRegistry.get(executionId))
+                .orElseThrow(() -> new BatchException("THROTTLE_NOT_FOUND",
+                        "No write throttle for execution: " + executionId));
+        return ThrottleResponse.from(executionId, throttle);
+    }
+
+    /**
+     * 실행 중인 Job의 초당 쓰기 상한을 변경합니다. 제한이 없던 실행이면 새로 적용합니다.
+     */
+    public ThrottleResponse updateThrottle(String jobName, Long executionId, double limit) {
+        JobExecution jobExecution = Optional.ofNullable(
+                        jobExplorer.getJobExecution(executionId))
+                .orElseThrow(() -> new BatchException("JOB_NOT_FOUND",
+                        "Job execution not found: " + executionId));
+
+        validateJobName(jobName, jobExecution);
+        validateJobCanBeStopped(jobExecution);
+
+        WriteThrottle throttle = throttleRegistry.getOrCreate(jobExecution, limit);
+        throttle.setLimit(limit);
+
+        log.info("Write throttle updated: {} (execution id: {}, limit: {}/s {})",
+                jobName, executionId, limit, throttleProperties.getUnit());
+        return ThrottleResponse.from(executionId, throttle);
+    }
+
     private JobParameters createJobParameters(JobLaunchRequest request) {
         return new JobParametersBuilder(request.toJobParameters())
                 .addLong("timestamp", System.currentTimeMillis())
@@ -304,13 +580,6 @@ public class JobManagementService {
         }
     }
 
-    private void validateJobCanRun(String jobName, JobParameters parameters) {
-        if (jobRepository.isJobInstanceExists(jobName, parameters)) {
-            throw new BatchException("JOB_INSTANCE_EXISTS",
-                    "Job instance already exists with these parameters");
-        }
-    }
-
     private void validateJobName(String jobName, JobExecution jobExecution) {
         if (!jobExecution.getJobInstance().getJobName().equals(jobName)) {
             throw new BatchException("JOB_NAME_MISMATCH",
@@ -0,0 +1,105 @@
+package com.minkyu.samplebatch.cli;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.converter.DefaultJobParametersConverter;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.ExitCodeMapper;
+import org.springframework.batch.core.launch.support.SimpleJvmExitCodeMapper;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 웹 계층 없이 Job 하나를 실행하고 종료 코드를 반환하는 명령행 실행 모드입니다.
+ * <pre>
+ * java -jar app.jar --job=sampleJob key=value ...
+ * </pre>
+ * {@code --}로 시작하는 나머지 인자는 Spring 설정으로, {@code key=value} 인자는 Job 파라미터로 전달됩니다.
+ */
+@Slf4j
+public final class JobCommandLine {
+
+    private static final String JOB_OPTION = "--job=";
+    private static final String CDS_TRAINING_OPTION = "--cds-training";
+
+    private static final ExitCodeMapper EXIT_CODE_MAPPER = new SimpleJvmExitCodeMapper();
+
+    private JobCommandLine() {
+    }
+
+    public static boolean isCommandLine(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(JOB_OPTION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Job을 실행하고 JVM 종료 코드를 반환합니다.
+     */
+    public static int run(Class<?> source, String[] args) {
+        String jobName = null;
+        boolean cdsTraining = false;
+        List<String> springArgs = new ArrayList<>();
+        Properties parameters = new Properties();
+
+        for (String arg : args) {
+            if (arg.startsWith(JOB_OPTION)) {
+                jobName = arg.substring(JOB_OPTION.length());
+            } else if (arg.equals(CDS_TRAINING_OPTION)) {
+                cdsTraining = true;
+            } else if (arg.startsWith("--") || !arg.contains("=")) {
+                springArgs.add(arg);
+            } else {
+                int separator = arg.indexOf('=');
+                parameters.setProperty(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(source)
+                .web(WebApplicationType.NONE)
+                .profiles("cli")
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(springArgs.toArray(new String[0]));
+
+        try {
+            Job job = context.getBean(jobName, Job.class);
+
+            // CDS 아카이브 생성용 실행은 Job 구성까지만 로딩하고 종료
+            if (cdsTraining) {
+                return SpringApplication.exit(context, () -> 0);
+            }
+
+            JobParameters jobParameters = new JobParametersBuilder(
+                    new DefaultJobParametersConverter().getJobParameters(parameters),
+                    context.getBean(JobExplorer.class))
+                    .getNextJobParameters(job)
+                    .toJobParameters();
+
+            JobExecution execution = context.getBean(JobLauncher.class).run(job, jobParameters);
+            int exitCode = EXIT_CODE_MAPPER.intValue(execution.getExitStatus().getExitCode());
+
+            log.info("Job finished - name: {}, execution id: {}, status: {}, exit code: {}",
+                    jobName, execution.getId(), execution.getStatus(), exitCode);
+            return SpringApplication.exit(context, () -> exitCode);
+
+        } catch (Exception e) {
+            log.error("Failed to run job: {}", jobName, e);
+            return SpringApplication.exit(context, () -> ExitCodeMapper.JVM_EXITCODE_GENERIC_ERROR);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.minkyu.samplebatch.common.cancel;
+
+import com.minkyu.samplebatch.common.monitoring.BatchMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중지 요청으로 SQL이 취소되어 실패한 Step을 STOPPED로 전환하여 재시작 가능한 상태로 남기고,
+ * 중지 요청부터 실제 중지까지 걸린 시간을 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CancellationListener implements JobExecutionListener, StepExecutionListener {
+
+    private final CancellationRegistry cancellationRegistry;
+    private final BatchMetrics batchMetrics;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        cancellationRegistry.remove(jobExecution.getId());
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        CancellationRegistry.StopRequest request = cancellationRegistry.get(stepExecution.getJobExecutionId());
+        if (request == null) {
+            return stepExecution.getExitStatus();
+        }
+
+        if (request.markRecorded()) {
+            batchMetrics.recordStopLatency(stepExecution.getJobExecution(), request.getMode(),
+                    System.nanoTime() - request.getRequestedAtNanos());
+        }
+
+        // 취소로 인한 실패는 마지막 커밋 지점에서 재시작할 수 있도록 STOPPED로 처리
+        if (request.isCancelled() && stepExecution.getStatus() == BatchStatus.FAILED) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            return ExitStatus.STOPPED.addExitDescription("Stopped by bounded stop request");
+        }
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,81 @@
+package com.minkyu.samplebatch.common.cancel;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job 실행별 중지 요청 상태를 보관합니다.
+ */
+@Component
+public class CancellationRegistry {
+
+    private final Map<Long, StopRequest> requests = new ConcurrentHashMap<>();
+
+    /**
+     * 중지 요청을 기록합니다. 이미 요청이 있으면 더 엄격한 방식일 때만 요청 시각과 함께 교체합니다.
+     */
+    public StopRequest request(Long jobExecutionId, StopMode mode) {
+        return requests.compute(jobExecutionId, (id, existing) ->
+                existing == null || mode.isStricterThan(existing.getMode())
+                        ? new StopRequest(mode, System.nanoTime())
+                        : existing);
+    }
+
+    public StopRequest get(Long jobExecutionId) {
+        return requests.get(jobExecutionId);
+    }
+
+    /**
+     * 해당 실행에서 새 SQL 실행을 거부해야 하는지 여부입니다.
+     */
+    public boolean isCancelled(Long jobExecutionId) {
+        StopRequest request = requests.get(jobExecutionId);
+        return request != null && request.isCancelled();
+    }
+
+    public void remove(Long jobExecutionId) {
+        requests.remove(jobExecutionId);
+    }
+
+    public static class StopRequest {
+
+        private final StopMode mode;
+        private final long requestedAtNanos;
+        private volatile boolean cancelled;
+        private volatile boolean recorded;
+
+        StopRequest(StopMode mode, long requestedAtNanos) {
+            this.mode = mode;
+            this.requestedAtNanos = requestedAtNanos;
+        }
+
+        public StopMode getMode() {
+            return mode;
+        }
+
+        public long getRequestedAtNanos() {
+            return requestedAtNanos;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * 중지 소요 시간을 한 번만 기록하도록 최초 호출에서만 true를 반환합니다.
+         */
+        public synchronized boolean markRecorded() {
+            if (recorded) {
+                return false;
+            }
+            recorded = true;
+            return true;
+        }
+    }
+}
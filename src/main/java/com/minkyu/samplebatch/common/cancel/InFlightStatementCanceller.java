@@ -0,0 +1,74 @@
+package com.minkyu.samplebatch.common.cancel;
+
+import com.minkyu.samplebatch.common.jdbc.StatementExecution;
+import com.minkyu.samplebatch.common.jdbc.StatementListener;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배치 스레드에서 실행 중인 Statement를 추적하여, 중지 요청 시 취소합니다.
+ * 취소된 실행에서는 새 Statement 실행도 즉시 거부하여 현재 Chunk가 빠르게 롤백되도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InFlightStatementCanceller implements StatementListener {
+
+    private final CancellationRegistry cancellationRegistry;
+
+    private final Map<Thread, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeExecute(StatementExecution execution) throws SQLException {
+        BatchTraceContext.Trace trace = BatchTraceContext.get();
+        if (trace == null) {
+            return;
+        }
+        Long jobExecutionId = trace.jobExecutionId();
+        if (cancellationRegistry.isCancelled(jobExecutionId)) {
+            throw new SQLException("Statement rejected: job execution " + jobExecutionId + " is being stopped");
+        }
+        inFlight.put(execution.getThread(), new InFlight(jobExecutionId, execution));
+    }
+
+    @Override
+    public void afterExecute(StatementExecution execution, long elapsedNanos, Throwable error) {
+        inFlight.remove(execution.getThread());
+    }
+
+    /**
+     * 해당 실행의 새 SQL을 거부하고, 실행 중인 SQL을 취소합니다.
+     */
+    public int cancel(Long jobExecutionId) {
+        CancellationRegistry.StopRequest request = cancellationRegistry.get(jobExecutionId);
+        if (request == null) {
+            return 0;
+        }
+        request.cancel();
+
+        int cancelled = 0;
+        for (InFlight entry : inFlight.values()) {
+            if (!jobExecutionId.equals(entry.jobExecutionId())) {
+                continue;
+            }
+            try {
+                entry.execution().getStatement().cancel();
+                cancelled++;
+            } catch (SQLException e) {
+                log.warn("Failed to cancel statement - execution id: {}, sql: {}",
+                        jobExecutionId, entry.execution().getSql(), e);
+            }
+        }
+        log.info("Cancelled in-flight statements - execution id: {}, count: {}", jobExecutionId, cancelled);
+        return cancelled;
+    }
+
+    private record InFlight(Long jobExecutionId, StatementExecution execution) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.minkyu.samplebatch.common.cancel;
+
+public enum StopMode {
+    // 다음 Chunk 경계에서 중지 (JobOperator.stop)
+    GRACEFUL,
+    // 유예 시간이 지나면 실행 중인 SQL을 취소하고 현재 Chunk를 롤백하여 중지
+    BOUNDED;
+
+    /**
+     * 선언 순서가 뒤일수록 더 엄격한 중지 방식입니다.
+     */
+    public boolean isStricterThan(StopMode other) {
+        return compareTo(other) > 0;
+    }
+}
@@ -1,31 +1,158 @@
 package com.minkyu.samplebatch.common.config;
 
+import com.minkyu.samplebatch.common.cancel.CancellationRegistry;
+import com.minkyu.samplebatch.common.context.CompactExecutionContextSerializer;
+import com.minkyu.samplebatch.common.context.DirtyCheckingExecutionContextDao;
+import com.minkyu.samplebatch.common.context.ExecutionContextProperties;
+import com.minkyu.samplebatch.common.fault.FaultToleranceProperties;
+import com.minkyu.samplebatch.common.monitoring.BatchMetrics;
+import com.minkyu.samplebatch.common.throttle.ThrottleProperties;
+import com.minkyu.samplebatch.job.stream.StreamProperties;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.configuration.annotation.BatchConfigurer;
+import org.springframework.batch.core.configuration.annotation.DefaultBatchConfigurer;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.support.JobRegistryBeanPostProcessor;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.job.AbstractJob;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
 import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
 
 @Configuration
 @EnableBatchProcessing
+@EnableScheduling
+@EnableConfigurationProperties({ThrottleProperties.class, FaultToleranceProperties.class,
+        ExecutionContextProperties.class, StreamProperties.class})
 public class BatchConfig {
 
+    /**
+     * JobInstance/JobExecution 생성 시 사용하는 격리 수준.
+     * REPEATABLE_READ는 MySQL에서 BATCH_JOB_INSTANCE 조회 구간에 gap lock을 잡아
+     * 같은 Job 이름의 동시 실행이 직렬화되고 데드락이 발생하므로 READ_COMMITTED를 사용합니다.
+     * 동일 파라미터 인스턴스의 중복 생성은 JOB_INST_UN 유니크 키가 막습니다.
+     */
+    public static final String ISOLATION_LEVEL_FOR_CREATE = "ISOLATION_READ_COMMITTED";
+
+    /**
+     * JobLauncher, JobRepository, JobExplorer가 같은 저장소 설정과 ExecutionContext 직렬화 방식을 사용하도록 구성합니다.
+     */
+    @Bean
+    public BatchConfigurer batchConfigurer(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                           ExecutionContextSerializer executionContextSerializer,
+                                           ExecutionContextProperties executionContextProperties,
+                                           BatchMetrics batchMetrics) {
+        return new DefaultBatchConfigurer(dataSource) {
+            @Override
+            public PlatformTransactionManager getTransactionManager() {
+                return transactionManager;
+            }
+
+            @Override
+            protected JobRepository createJobRepository() throws Exception {
+                JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean() {
+                    @Override
+                    protected ExecutionContextDao createExecutionContextDao() throws Exception {
+                        DirtyCheckingExecutionContextDao dao = new DirtyCheckingExecutionContextDao(
+                                executionContextSerializer, batchMetrics, executionContextProperties.isDirtyCheck());
+                        dao.setJdbcTemplate(new JdbcTemplate(dataSource));
+                        dao.afterPropertiesSet();
+                        return dao;
+                    }
+                };
+                factory.setDataSource(dataSource);
+                factory.setTransactionManager(transactionManager);
+                factory.setIsolationLevelForCreate(ISOLATION_LEVEL_FOR_CREATE);
+                factory.setSerializer(executionContextSerializer);
+                factory.afterPropertiesSet();
+                return factory.getObject();
+            }
+
+            @Override
+            protected JobExplorer createJobExplorer() throws Exception {
+                JobExplorerFactoryBean factory = new JobExplorerFactoryBean();
+                factory.setDataSource(dataSource);
+                factory.setSerializer(executionContextSerializer);
+                factory.afterPropertiesSet();
+                return factory.getObject();
+            }
+        };
+    }
+
     @Bean
-    public JobRepository jobRepository(DataSource dataSource, PlatformTransactionManager transactionManager) throws Exception {
-        JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
-        factory.setDataSource(dataSource);
-        factory.setTransactionManager(transactionManager);
-        factory.setIsolationLevelForCreate("ISOLATION_REPEATABLE_READ");
-        factory.afterPropertiesSet();
-        return factory.getObject();
+    public JobRepository jobRepository(BatchConfigurer batchConfigurer) throws Exception {
+        return batchConfigurer.getJobRepository();
+    }
+
+    @Bean
+    public JobExplorer jobExplorer(BatchConfigurer batchConfigurer) throws Exception {
+        return batchConfigurer.getJobExplorer();
+    }
+
+    /**
+     * compact이면 압축 바이너리 형식으로 저장하고, 기존 JSON 형식으로 저장된 데이터도 읽을 수 있도록 합니다.
+     */
+    @Bean
+    public ExecutionContextSerializer executionContextSerializer(ExecutionContextProperties properties) {
+        Jackson2ExecutionContextStringSerializer jackson = new Jackson2ExecutionContextStringSerializer();
+        return properties.isCompact() ? new CompactExecutionContextSerializer(jackson) : jackson;
+    }
+
+    /**
+     * 설정 클래스에 정의된 Job을 JobRegistry에 등록하여 API로 실행할 수 있도록 합니다.
+     */
+    @Bean
+    public JobRegistryBeanPostProcessor jobRegistryBeanPostProcessor(JobRegistry jobRegistry) {
+        JobRegistryBeanPostProcessor postProcessor = new JobRegistryBeanPostProcessor();
+        postProcessor.setJobRegistry(jobRegistry);
+        return postProcessor;
+    }
+
+    /**
+     * Job 빈에 어떤 리스너가 등록되어 있든 실행이 끝나면 중지 요청 상태를 제거합니다.
+     * 레지스트리는 Job 종료 시점에 조회하여 BeanPostProcessor가 다른 빈을 일찍 생성하지 않도록 합니다.
+     */
+    @Bean
+    public static BeanPostProcessor cancellationCleanupPostProcessor(
+            ObjectProvider<CancellationRegistry> cancellationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractJob) {
+                    ((AbstractJob) bean).registerJobExecutionListener(new JobExecutionListener() {
+                        @Override
+                        public void beforeJob(JobExecution jobExecution) {
+                        }
+
+                        @Override
+                        public void afterJob(JobExecution jobExecution) {
+                            cancellationRegistry.getObject().remove(jobExecution.getId());
+                        }
+                    });
+                }
+                return bean;
+            }
+        };
     }
 
     @Bean
     public PlatformTransactionManager transactionManager(DataSource dataSource) {
         return new DataSourceTransactionManager(dataSource);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.minkyu.samplebatch.common.config;
+
+import com.minkyu.samplebatch.common.jdbc.InterceptingDataSource;
+import com.minkyu.samplebatch.common.jdbc.StatementListener;
+import com.minkyu.samplebatch.common.monitoring.sql.SqlLoggingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableConfigurationProperties(SqlLoggingProperties.class)
+public class JdbcInterceptorConfig {
+
+    /**
+     * DataSource 빈을 {@link InterceptingDataSource}로 감쌉니다.
+     * 리스너는 첫 커넥션 요청 시점에 조회하여 순환 참조를 피합니다.
+     */
+    @Bean
+    public static BeanPostProcessor interceptingDataSourcePostProcessor(
+            ObjectProvider<StatementListener> statementListeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof InterceptingDataSource)) {
+                    return new InterceptingDataSource((DataSource) bean, lazyListeners(statementListeners));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Supplier<List<StatementListener>> lazyListeners(ObjectProvider<StatementListener> provider) {
+        return new Supplier<>() {
+            private volatile List<StatementListener> listeners;
+
+            @Override
+            public List<StatementListener> get() {
+                List<StatementListener> result = listeners;
+                if (result == null) {
+                    result = provider.orderedStream().collect(Collectors.toUnmodifiableList());
+                    listeners = result;
+                }
+                return result;
+            }
+        };
+    }
+}
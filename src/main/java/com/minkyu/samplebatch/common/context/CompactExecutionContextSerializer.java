@@ -0,0 +1,220 @@
+package com.minkyu.samplebatch.common.context;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ExecutionContext를 버전이 붙은 압축 바이너리 형식으로 직렬화합니다.
+ * <p>
+ * 형식: {@code ~<버전>:} 뒤에 Base64(항목 수, [키, 타입 태그, 값]...). 정수는 zigzag varint로 기록합니다.
+ * 컬럼이 문자열이므로 Base64로 ASCII만 저장합니다. 지원하지 않는 타입의 값이 있으면 전체를 fallback(JSON)으로
+ * 직렬화하며, 접두사가 없는 기존 JSON 데이터도 fallback으로 읽습니다.
+ */
+public class CompactExecutionContextSerializer implements ExecutionContextSerializer {
+
+    static final byte VERSION = 1;
+
+    private static final char PREFIX = '~';
+    private static final char VERSION_SEPARATOR = ':';
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DATE = 8;
+    private static final byte BIG_DECIMAL = 9;
+
+    private final ExecutionContextSerializer fallback;
+
+    public CompactExecutionContextSerializer(ExecutionContextSerializer fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void serialize(Map<String, Object> context, OutputStream outputStream) throws IOException {
+        if (!context.values().stream().allMatch(CompactExecutionContextSerializer::isSupported)) {
+            fallback.serialize(context, outputStream);
+            return;
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(32 + context.size() * 32);
+        writeVarLong(payload, context.size());
+        for (Map.Entry<String, Object> entry : context.entrySet()) {
+            writeString(payload, entry.getKey());
+            writeValue(payload, entry.getValue());
+        }
+
+        outputStream.write(PREFIX);
+        outputStream.write('0' + VERSION);
+        outputStream.write(VERSION_SEPARATOR);
+        outputStream.write(Base64.getEncoder().withoutPadding().encode(payload.toByteArray()));
+    }
+
+    @Override
+    public Map<String, Object> deserialize(InputStream inputStream) throws IOException {
+        byte[] bytes = inputStream.readAllBytes();
+        if (bytes.length < 3 || bytes[0] != PREFIX || bytes[2] != VERSION_SEPARATOR) {
+            return fallback.deserialize(new ByteArrayInputStream(bytes));
+        }
+        int version = bytes[1] - '0';
+        if (version != VERSION) {
+            throw new IOException("Unsupported execution context format version: " + version);
+        }
+
+        Reader reader = new Reader(Base64.getDecoder().decode(Arrays.copyOfRange(bytes, 3, bytes.length)));
+        int size = (int) reader.readVarLong();
+        Map<String, Object> context = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            context.put(reader.readString(), reader.readValue());
+        }
+        return context;
+    }
+
+    private static boolean isSupported(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Long
+                || value instanceof Integer
+                || value instanceof Double
+                || value instanceof Boolean
+                || value instanceof Float
+                || value instanceof BigDecimal
+                || value.getClass() == Date.class;
+    }
+
+    private static void writeValue(ByteArrayOutputStream out, Object value) {
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof String string) {
+            out.write(STRING);
+            writeString(out, string);
+        } else if (value instanceof Long number) {
+            out.write(LONG);
+            writeVarLong(out, zigzag(number));
+        } else if (value instanceof Integer number) {
+            out.write(INTEGER);
+            writeVarLong(out, zigzag(number));
+        } else if (value instanceof Double number) {
+            out.write(DOUBLE);
+            writeFixedLong(out, Double.doubleToLongBits(number));
+        } else if (value instanceof Boolean bool) {
+            out.write(bool ? TRUE : FALSE);
+        } else if (value instanceof Float number) {
+            out.write(FLOAT);
+            writeFixedLong(out, Float.floatToIntBits(number) & 0xFFFFFFFFL);
+        } else if (value instanceof BigDecimal number) {
+            out.write(BIG_DECIMAL);
+            writeString(out, number.toString());
+        } else {
+            out.write(DATE);
+            writeVarLong(out, zigzag(((Date) value).getTime()));
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeFixedLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private Object readValue() throws IOException {
+            byte tag = readByte();
+            return switch (tag) {
+                case NULL -> null;
+                case STRING -> readString();
+                case LONG -> unzigzag(readVarLong());
+                case INTEGER -> (int) unzigzag(readVarLong());
+                case DOUBLE -> Double.longBitsToDouble(readFixedLong());
+                case TRUE -> Boolean.TRUE;
+                case FALSE -> Boolean.FALSE;
+                case FLOAT -> Float.intBitsToFloat((int) readFixedLong());
+                case DATE -> new Date(unzigzag(readVarLong()));
+                case BIG_DECIMAL -> new BigDecimal(readString());
+                default -> throw new IOException("Unknown execution context value tag: " + tag);
+            };
+        }
+
+        private String readString() throws IOException {
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > bytes.length) {
+                throw new IOException("Corrupted execution context string length: " + length);
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Corrupted execution context varint");
+        }
+
+        private long readFixedLong() throws IOException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        private byte readByte() throws IOException {
+            if (position >= bytes.length) {
+                throw new IOException("Unexpected end of execution context");
+            }
+            return bytes[position++];
+        }
+    }
+}
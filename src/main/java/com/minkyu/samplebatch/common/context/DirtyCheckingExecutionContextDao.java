@@ -0,0 +1,136 @@
+package com.minkyu.samplebatch.common.context;
+
+import com.minkyu.samplebatch.common.monitoring.BatchMetrics;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.JdbcExecutionContextDao;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chunk 커밋마다 호출되는 Step ExecutionContext 저장 시 직렬화 크기/시간을 Step별로 기록하고,
+ * dirtyCheck가 켜져 있으면 마지막으로 커밋된 내용과 같을 때 UPDATE를 생략합니다.
+ * <p>
+ * 비교 기준은 직렬화 결과이므로 값 객체를 제자리에서 변경한 경우도 감지합니다.
+ * 기준값은 트랜잭션이 커밋된 뒤에만 갱신하여, 롤백된 Chunk의 내용으로 이후 저장을 생략하지 않도록 합니다.
+ */
+public class DirtyCheckingExecutionContextDao extends JdbcExecutionContextDao {
+
+    private static final String UPDATE_STEP_EXECUTION_CONTEXT = "UPDATE %PREFIX%STEP_EXECUTION_CONTEXT "
+            + "SET SHORT_CONTEXT = ?, SERIALIZED_CONTEXT = ? WHERE STEP_EXECUTION_ID = ?";
+
+    private static final int DEFAULT_SHORT_CONTEXT_LENGTH = 2500;
+
+    private final ExecutionContextSerializer serializer;
+    private final BatchMetrics batchMetrics;
+    private final boolean dirtyCheck;
+
+    // StepExecution id별 마지막으로 커밋된 직렬화 결과
+    private final Map<Long, String> committedContexts = new ConcurrentHashMap<>();
+
+    private int shortContextLength = DEFAULT_SHORT_CONTEXT_LENGTH;
+
+    public DirtyCheckingExecutionContextDao(ExecutionContextSerializer serializer, BatchMetrics batchMetrics,
+                                            boolean dirtyCheck) {
+        this.serializer = serializer;
+        this.batchMetrics = batchMetrics;
+        this.dirtyCheck = dirtyCheck;
+        setSerializer(serializer);
+    }
+
+    @Override
+    public void setShortContextLength(int shortContextLength) {
+        super.setShortContextLength(shortContextLength);
+        this.shortContextLength = shortContextLength;
+    }
+
+    @Override
+    public void updateExecutionContext(StepExecution stepExecution) {
+        // 같은 StepExecution에 대한 동시 저장 방지 (JdbcExecutionContextDao와 동일)
+        synchronized (stepExecution) {
+            Long executionId = stepExecution.getId();
+            Assert.notNull(executionId, "ExecutionId must not be null.");
+
+            long begin = System.nanoTime();
+            String serialized = serialize(stepExecution.getExecutionContext());
+            long elapsed = System.nanoTime() - begin;
+
+            boolean finished = !stepExecution.getStatus().isRunning();
+            boolean unchanged = dirtyCheck && serialized.equals(committedContexts.get(executionId));
+            batchMetrics.recordExecutionContext(stepExecution, serialized.length(), elapsed, !unchanged);
+            if (finished) {
+                committedContexts.remove(executionId);
+            }
+            if (unchanged) {
+                return;
+            }
+
+            persist(executionId, serialized);
+            if (dirtyCheck && !finished) {
+                rememberAfterCommit(executionId, serialized);
+            }
+        }
+    }
+
+    private String serialize(ExecutionContext executionContext) {
+        Map<String, Object> context = new HashMap<>();
+        for (Map.Entry<String, Object> entry : executionContext.entrySet()) {
+            context.put(entry.getKey(), entry.getValue());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            serializer.serialize(context, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize the execution context", e);
+        }
+        // JdbcExecutionContextDao가 읽을 때와 같은 문자셋
+        return new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+    }
+
+    private void persist(Long executionId, String serialized) {
+        String shortContext;
+        String longContext;
+        if (serialized.length() > shortContextLength) {
+            shortContext = serialized.substring(0, shortContextLength - 8) + " ...";
+            longContext = serialized;
+        } else {
+            shortContext = serialized;
+            longContext = null;
+        }
+
+        getJdbcTemplate().update(getQuery(UPDATE_STEP_EXECUTION_CONTEXT), ps -> {
+            ps.setString(1, shortContext);
+            if (longContext != null) {
+                ps.setString(2, longContext);
+            } else {
+                ps.setNull(2, getClobTypeToUse());
+            }
+            ps.setLong(3, executionId);
+        });
+    }
+
+    private void rememberAfterCommit(Long executionId, String serialized) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committedContexts.put(executionId, serialized);
+            return;
+        }
+        committedContexts.remove(executionId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committedContexts.put(executionId, serialized);
+            }
+        });
+    }
+}
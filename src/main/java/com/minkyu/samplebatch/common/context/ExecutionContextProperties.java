@@ -0,0 +1,17 @@
+package com.minkyu.samplebatch.common.context;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.execution-context")
+public class ExecutionContextProperties {
+
+    // 압축 바이너리 형식으로 저장 (false면 기존 JSON 형식)
+    private boolean compact = true;
+
+    // Step ExecutionContext가 마지막 저장 이후 바뀌지 않았으면 UPDATE 생략
+    private boolean dirtyCheck = true;
+}
@@ -0,0 +1,22 @@
+package com.minkyu.samplebatch.common.dedup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.dedup")
+public class DedupProperties {
+
+    // 해시 집합의 최대 메모리 (bytes)
+    private long maxMemoryBytes = 256L * 1024 * 1024;
+
+    // 예상 건수 (0이면 maxMemoryBytes 전체를 사용)
+    private long expectedEntries = 0;
+
+    private double loadFactor = 0.75;
+
+    // direct buffer(off-heap) 사용 여부
+    private boolean offHeap = true;
+}
@@ -0,0 +1,7 @@
+package com.minkyu.samplebatch.common.dedup;
+
+/**
+ * 중복 검사 결과를 담은 항목입니다.
+ */
+public record DuplicateCheckedItem<T>(T item, boolean duplicate) {
+}
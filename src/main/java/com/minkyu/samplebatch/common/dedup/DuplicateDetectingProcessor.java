@@ -0,0 +1,60 @@
+package com.minkyu.samplebatch.common.dedup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.function.Function;
+
+/**
+ * 정규화된 키의 64비트 해시를 기억하여 중복 항목을 표시하는 Processor입니다.
+ * 키 문자열 대신 해시만 저장하므로 항목당 수 바이트 수준의 메모리만 사용합니다.
+ * 상태를 메모리에 두므로 Step 범위 빈으로 사용해야 합니다.
+ */
+@Slf4j
+public class DuplicateDetectingProcessor<T> implements ItemProcessor<T, DuplicateCheckedItem<T>>, StepExecutionListener {
+
+    private final Function<T, CharSequence> keyExtractor;
+    private final PrimitiveLongHashSet seen;
+    private long duplicateCount;
+
+    public DuplicateDetectingProcessor(Function<T, CharSequence> keyExtractor, DedupProperties properties) {
+        this.keyExtractor = keyExtractor;
+        this.seen = properties.getExpectedEntries() > 0
+                ? PrimitiveLongHashSet.create(properties.getExpectedEntries(), properties.getLoadFactor(), properties.isOffHeap())
+                : PrimitiveLongHashSet.withMemoryLimit(properties.getMaxMemoryBytes(), properties.getLoadFactor(), properties.isOffHeap());
+    }
+
+    @Override
+    public DuplicateCheckedItem<T> process(T item) {
+        CharSequence key = keyExtractor.apply(item);
+        if (key == null) {
+            return new DuplicateCheckedItem<>(item, false);
+        }
+
+        boolean duplicate = !seen.add(KeyHasher.hashNormalized(key));
+        if (duplicate) {
+            duplicateCount++;
+        }
+        return new DuplicateCheckedItem<>(item, duplicate);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        log.info("Duplicate detection started - capacity: {}, memory: {} bytes, off-heap: {}",
+                seen.capacity(), seen.memoryBytes(), seen.isOffHeap());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        stepExecution.getExecutionContext().putLong("dedup.uniqueKeys", seen.size());
+        stepExecution.getExecutionContext().putLong("dedup.duplicates", duplicateCount);
+        stepExecution.getExecutionContext().putLong("dedup.memoryBytes", seen.memoryBytes());
+
+        log.info("Duplicate detection finished - unique keys: {}, duplicates: {}, bytes per key: {}",
+                seen.size(), duplicateCount, seen.size() > 0 ? seen.memoryBytes() / seen.size() : 0);
+        return stepExecution.getExitStatus();
+    }
+}
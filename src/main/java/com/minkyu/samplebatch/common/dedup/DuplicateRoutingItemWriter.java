@@ -0,0 +1,37 @@
+package com.minkyu.samplebatch.common.dedup;
+
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 중복 검사 결과에 따라 항목을 고유/중복 Writer로 나누어 전달합니다.
+ * 고유 항목 Writer가 없으면 중복 항목만 기록합니다.
+ */
+public class DuplicateRoutingItemWriter<T> implements ItemWriter<DuplicateCheckedItem<T>> {
+
+    private final ItemWriter<? super T> uniqueWriter;
+    private final ItemWriter<? super T> duplicateWriter;
+
+    public DuplicateRoutingItemWriter(ItemWriter<? super T> uniqueWriter, ItemWriter<? super T> duplicateWriter) {
+        this.uniqueWriter = uniqueWriter;
+        this.duplicateWriter = duplicateWriter;
+    }
+
+    @Override
+    public void write(List<? extends DuplicateCheckedItem<T>> items) throws Exception {
+        List<T> unique = new ArrayList<>();
+        List<T> duplicates = new ArrayList<>();
+        for (DuplicateCheckedItem<T> item : items) {
+            (item.duplicate() ? duplicates : unique).add(item.item());
+        }
+
+        if (uniqueWriter != null && !unique.isEmpty()) {
+            uniqueWriter.write(unique);
+        }
+        if (!duplicates.isEmpty()) {
+            duplicateWriter.write(duplicates);
+        }
+    }
+}
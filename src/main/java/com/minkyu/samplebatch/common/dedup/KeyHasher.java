@@ -0,0 +1,47 @@
+package com.minkyu.samplebatch.common.dedup;
+
+/**
+ * 문자열 키를 64비트 해시로 변환합니다.
+ * 앞뒤 공백을 제외하고 대문자로 정규화하며, 변환 중 새 문자열을 만들지 않습니다.
+ */
+public final class KeyHasher {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private KeyHasher() {
+    }
+
+    public static long hashNormalized(CharSequence key) {
+        int start = 0;
+        int end = key.length();
+        while (start < end && Character.isWhitespace(key.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(key.charAt(end - 1))) {
+            end--;
+        }
+
+        long hash = FNV_OFFSET;
+        for (int i = start; i < end; i++) {
+            char c = Character.toUpperCase(key.charAt(i));
+            hash ^= c & 0xff;
+            hash *= FNV_PRIME;
+            hash ^= c >>> 8;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 finalizer로 비트를 고르게 섞습니다.
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,147 @@
+package com.minkyu.samplebatch.common.dedup;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * long 값을 저장하는 open addressing(선형 탐사) 해시 집합입니다.
+ * 박싱 없이 슬롯당 8바이트만 사용하며, 힙 또는 off-heap(direct buffer)에 할당할 수 있습니다.
+ */
+public class PrimitiveLongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MAX_CAPACITY = 1 << 30;
+    // direct buffer 하나는 2GB 미만이므로 off-heap은 2^27 슬롯(1GB)이 최대
+    static final int MAX_OFF_HEAP_CAPACITY = 1 << 27;
+
+    private final LongBuffer table;
+    private final int mask;
+    private final int maxSize;
+    private final boolean offHeap;
+    private int size;
+    private boolean containsEmptyKey;
+
+    private PrimitiveLongHashSet(int capacity, double loadFactor, boolean offHeap) {
+        this.table = offHeap
+                ? ByteBuffer.allocateDirect(Math.toIntExact((long) capacity * Long.BYTES))
+                        .order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(capacity);
+        this.mask = capacity - 1;
+        this.maxSize = (int) (capacity * loadFactor);
+        this.offHeap = offHeap;
+    }
+
+    /**
+     * 예상 건수를 기준으로 집합을 생성합니다.
+     */
+    public static PrimitiveLongHashSet create(long expectedEntries, double loadFactor, boolean offHeap) {
+        validateLoadFactor(loadFactor);
+        long required = (long) Math.ceil(expectedEntries / loadFactor);
+        return new PrimitiveLongHashSet(capacityFor(required, offHeap), loadFactor, offHeap);
+    }
+
+    /**
+     * 메모리 한도 내에서 가장 큰 집합을 생성합니다.
+     */
+    public static PrimitiveLongHashSet withMemoryLimit(long maxBytes, double loadFactor, boolean offHeap) {
+        validateLoadFactor(loadFactor);
+        return new PrimitiveLongHashSet(capacityWithin(maxBytes, offHeap), loadFactor, offHeap);
+    }
+
+    /**
+     * 값을 추가합니다. 새로 추가되면 true, 이미 있으면 false를 반환합니다.
+     */
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            if (containsEmptyKey) {
+                return false;
+            }
+            containsEmptyKey = true;
+            size++;
+            return true;
+        }
+
+        int index = (int) KeyHasher.mix(key) & mask;
+        while (true) {
+            long current = table.get(index);
+            if (current == EMPTY) {
+                ensureCapacity();
+                table.put(index, key);
+                size++;
+                return true;
+            }
+            if (current == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) {
+            return containsEmptyKey;
+        }
+
+        int index = (int) KeyHasher.mix(key) & mask;
+        while (true) {
+            long current = table.get(index);
+            if (current == EMPTY) {
+                return false;
+            }
+            if (current == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long memoryBytes() {
+        return (long) capacity() * Long.BYTES;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    private void ensureCapacity() {
+        if (size >= maxSize) {
+            throw new BatchException("DEDUP_CAPACITY_EXCEEDED",
+                    String.format("Duplicate key set is full (size: %d, memory: %d bytes)", size, memoryBytes()));
+        }
+    }
+
+    static int capacityFor(long required, boolean offHeap) {
+        if (required > maxCapacity(offHeap)) {
+            throw new BatchException("DEDUP_CAPACITY_EXCEEDED",
+                    String.format("Requested duplicate key set is too large: %d slots (max %d, off-heap: %s)",
+                            required, maxCapacity(offHeap), offHeap));
+        }
+        return (int) Math.max(2, Long.highestOneBit(Math.max(required - 1, 1)) << 1);
+    }
+
+    static int capacityWithin(long maxBytes, boolean offHeap) {
+        long slots = Long.highestOneBit(Math.max(maxBytes / Long.BYTES, 2));
+        return (int) Math.min(slots, maxCapacity(offHeap));
+    }
+
+    private static int maxCapacity(boolean offHeap) {
+        return offHeap ? MAX_OFF_HEAP_CAPACITY : MAX_CAPACITY;
+    }
+
+    private static void validateLoadFactor(double loadFactor) {
+        if (loadFactor <= 0 || loadFactor >= 1) {
+            throw new IllegalArgumentException("loadFactor must be between 0 and 1: " + loadFactor);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.minkyu.samplebatch.common.enrich;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 참조 데이터로 항목을 보강하는 processor입니다.
+ * Chunk를 읽는 동안(afterRead) 캐시에 없는 키를 모아 두었다가, 처음 캐시를 놓친 항목을 처리할 때
+ * 모인 키 전체를 한 번의 bulk 조회로 가져오므로 항목마다 조회하지 않습니다.
+ * <p>
+ * Step에 {@link ItemReadListener}로도 등록해야 합니다. 여러 Step/스레드에서 공유할 수 있습니다.
+ */
+public class BulkLookupProcessor<T, K, V> implements ItemProcessor<T, T>, ItemReadListener<T> {
+
+    private final Function<T, K> keyExtractor;
+    private final Function<Set<K>, Map<K, V>> bulkLoader;
+    private final BiFunction<T, V, T> enricher;
+    private final LookupCache<K, V> cache;
+
+    private final ThreadLocal<Set<K>> pendingKeys = ThreadLocal.withInitial(LinkedHashSet::new);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer lookupTimer;
+    private final DistributionSummary lookupKeys;
+
+    /**
+     * @param keyExtractor 항목의 조회 키 (null이면 조회하지 않음)
+     * @param bulkLoader 키 집합을 한 번에 조회 (없는 키는 결과에서 제외)
+     * @param enricher 조회 값으로 항목을 보강 (값이 없으면 null 전달)
+     */
+    public BulkLookupProcessor(String name, Function<T, K> keyExtractor, Function<Set<K>, Map<K, V>> bulkLoader,
+                               BiFunction<T, V, T> enricher, LookupCache<K, V> cache, MeterRegistry meterRegistry) {
+        this.keyExtractor = keyExtractor;
+        this.bulkLoader = bulkLoader;
+        this.enricher = enricher;
+        this.cache = cache;
+
+        this.hits = meterRegistry.counter("batch.enrichment.cache", "name", name, "result", "hit");
+        this.misses = meterRegistry.counter("batch.enrichment.cache", "name", name, "result", "miss");
+        this.lookupTimer = meterRegistry.timer("batch.enrichment.lookup", "name", name);
+        this.lookupKeys = meterRegistry.summary("batch.enrichment.lookup.keys", "name", name);
+        Gauge.builder("batch.enrichment.cache.size", cache, LookupCache::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeRead() {
+    }
+
+    @Override
+    public void afterRead(T item) {
+        K key = keyExtractor.apply(item);
+        if (key != null && cache.get(key) == null) {
+            pendingKeys.get().add(key);
+        }
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+    }
+
+    @Override
+    public T process(T item) {
+        K key = keyExtractor.apply(item);
+        if (key == null) {
+            return enricher.apply(item, null);
+        }
+
+        LookupCache.Cached<V> cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return enricher.apply(item, cached.value());
+        }
+
+        misses.increment();
+        Set<K> keys = pendingKeys.get();
+        keys.add(key);
+        Map<K, V> loaded = load(keys);
+        keys.clear();
+
+        return enricher.apply(item, loaded.get(key));
+    }
+
+    private Map<K, V> load(Set<K> keys) {
+        lookupKeys.record(keys.size());
+        Map<K, V> loaded = lookupTimer.record(() -> bulkLoader.apply(keys));
+        // 조회 결과가 없는 키도 캐시하여 반복 조회를 막음
+        keys.forEach(key -> cache.put(key, loaded.get(key)));
+        return loaded;
+    }
+}
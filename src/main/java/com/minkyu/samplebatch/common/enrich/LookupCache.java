@@ -0,0 +1,55 @@
+package com.minkyu.samplebatch.common.enrich;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한(LRU)과 TTL이 있는 조회 결과 캐시입니다. 조회 결과가 없는 키도 캐시합니다.
+ */
+public class LookupCache<K, V> {
+
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public LookupCache(int maxSize, long ttlMillis) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값을 반환합니다. 없거나 만료되었으면 null입니다.
+     */
+    public synchronized Cached<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos > 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.cached;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(new Cached<>(value), System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시된 조회 결과입니다. value가 null이면 조회 결과가 없었던 키입니다.
+     */
+    public record Cached<V>(V value) {
+    }
+
+    private record Entry<V>(Cached<V> cached, long expiresAtNanos) {
+    }
+}
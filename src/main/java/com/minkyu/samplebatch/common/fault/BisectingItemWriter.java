@@ -0,0 +1,79 @@
+package com.minkyu.samplebatch.common.fault;
+
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 쓰기 실패 시 Chunk를 반으로 나누어 다시 쓰면서 실패 항목만 격리합니다.
+ * 각 시도는 savepoint(NESTED)에서 실행하여 실패한 부분만 롤백하므로, 항목을 하나씩 다시 처리하는
+ * 기본 skip 방식과 달리 실패 항목 k개를 O(k log n)번의 쓰기로 찾아냅니다.
+ * 일시적 오류는 격리하지 않고 그대로 던져 Step의 재시도 정책에 맡깁니다.
+ * <p>
+ * savepoint는 transactionManager가 관리하는 JDBC 커넥션에 만들어지므로 delegate는 같은 커넥션으로 쓰는
+ * JDBC writer여야 합니다. JPA writer는 다른 커넥션으로 flush하거나, flush 오류 시 트랜잭션 전체를
+ * rollback-only로 표시하므로 savepoint 롤백으로 실패 부분만 되돌릴 수 없습니다.
+ */
+public class BisectingItemWriter<T> implements ItemWriter<T> {
+
+    private final ItemWriter<T> delegate;
+    private final TransactionTemplate savepointTemplate;
+    private final BiConsumer<T, Exception> failedItemHandler;
+
+    /**
+     * @param failedItemHandler 격리된 실패 항목 처리
+     */
+    public BisectingItemWriter(ItemWriter<T> delegate, PlatformTransactionManager transactionManager,
+                               BiConsumer<T, Exception> failedItemHandler) {
+        this.delegate = delegate;
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.failedItemHandler = failedItemHandler;
+    }
+
+    @Override
+    public void write(List<? extends T> items) throws Exception {
+        writeOrBisect(items);
+    }
+
+    private void writeOrBisect(List<? extends T> items) throws Exception {
+        try {
+            writeInSavepoint(items);
+        } catch (Exception e) {
+            if (TransientErrors.isTransient(e)) {
+                throw e;
+            }
+            if (items.size() == 1) {
+                failedItemHandler.accept(items.get(0), e);
+                return;
+            }
+            int middle = items.size() / 2;
+            writeOrBisect(items.subList(0, middle));
+            writeOrBisect(items.subList(middle, items.size()));
+        }
+    }
+
+    private void writeInSavepoint(List<? extends T> items) throws Exception {
+        try {
+            savepointTemplate.executeWithoutResult(status -> {
+                try {
+                    delegate.write(items);
+                } catch (Exception e) {
+                    throw new WriteAttemptException(e);
+                }
+            });
+        } catch (WriteAttemptException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static class WriteAttemptException extends RuntimeException {
+        WriteAttemptException(Exception cause) {
+            super(cause);
+        }
+    }
+}
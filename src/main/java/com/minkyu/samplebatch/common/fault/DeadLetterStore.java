@@ -0,0 +1,57 @@
+package com.minkyu.samplebatch.common.fault;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+
+/**
+ * 건너뛴 항목을 batch_dead_letter 테이블에 기록합니다.
+ * Chunk 트랜잭션 안에서 기록하므로 Chunk가 롤백되면 함께 롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadLetterStore {
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void add(StepExecution stepExecution, SkipPhase phase, Object item, Throwable error) {
+        jdbcTemplate.update("INSERT INTO batch_dead_letter "
+                        + "(job_execution_id, step_execution_id, step_name, phase, item_type, payload, error_type, error_message, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                stepExecution.getJobExecutionId(),
+                stepExecution.getId(),
+                stepExecution.getStepName(),
+                phase.name(),
+                item == null ? null : item.getClass().getName(),
+                toPayload(item),
+                error.getClass().getName(),
+                truncate(error.getMessage()),
+                new Timestamp(System.currentTimeMillis()));
+    }
+
+    private String toPayload(Object item) {
+        if (item == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(item);
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
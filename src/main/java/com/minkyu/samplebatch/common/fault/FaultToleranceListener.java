@@ -0,0 +1,123 @@
+package com.minkyu.samplebatch.common.fault;
+
+import com.minkyu.samplebatch.common.monitoring.BatchMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 건너뛴 항목을 dead letter로 기록하고 건너뛰기/재시도 횟수를 집계합니다.
+ * 재시도 횟수는 Step ExecutionContext의 {@link #RETRY_COUNT_KEY}에 저장됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaultToleranceListener implements SkipListener<Object, Object>, RetryListener, ChunkListener {
+
+    public static final String RETRY_COUNT_KEY = "fault.retryCount";
+
+    // 격리된 쓰기 실패 건수 (커밋 후 writeSkipCount에 반영)
+    private static final ThreadLocal<Integer> PENDING_WRITE_SKIPS = new ThreadLocal<>();
+
+    private final DeadLetterStore deadLetterStore;
+    private final BatchMetrics batchMetrics;
+    private final FaultToleranceProperties properties;
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        record(SkipPhase.READ, null, t);
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        record(SkipPhase.PROCESS, item, t);
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        record(SkipPhase.WRITE, item, t);
+    }
+
+    /**
+     * {@link BisectingItemWriter}가 격리한 실패 항목을 기록합니다.
+     */
+    public void onIsolatedWriteFailure(Object item, Exception error) {
+        StepExecution stepExecution = currentStepExecution();
+        int pending = PENDING_WRITE_SKIPS.get() == null ? 1 : PENDING_WRITE_SKIPS.get() + 1;
+        if (stepExecution != null && stepExecution.getSkipCount() + pending > properties.getSkipLimit()) {
+            throw new SkipLimitExceededException(properties.getSkipLimit(), error);
+        }
+        PENDING_WRITE_SKIPS.set(pending);
+        record(SkipPhase.WRITE, item, error);
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        Integer pending = PENDING_WRITE_SKIPS.get();
+        PENDING_WRITE_SKIPS.remove();
+        if (pending != null) {
+            StepExecution stepExecution = context.getStepContext().getStepExecution();
+            stepExecution.setWriteSkipCount(stepExecution.getWriteSkipCount() + pending);
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        PENDING_WRITE_SKIPS.remove();
+    }
+
+    @Override
+    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+        return true;
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        StepExecution stepExecution = currentStepExecution();
+        if (stepExecution == null || !TransientErrors.isTransient(throwable)) {
+            return;
+        }
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putLong(RETRY_COUNT_KEY, executionContext.getLong(RETRY_COUNT_KEY, 0L) + 1);
+        batchMetrics.recordRetry(stepExecution);
+
+        log.warn("Transient error in step: {} (attempt: {}) - {}",
+                stepExecution.getStepName(), context.getRetryCount(), throwable.toString());
+    }
+
+    private void record(SkipPhase phase, Object item, Throwable error) {
+        StepExecution stepExecution = currentStepExecution();
+        if (stepExecution == null) {
+            return;
+        }
+        deadLetterStore.add(stepExecution, phase, item, error);
+        batchMetrics.recordSkip(stepExecution, phase);
+
+        log.warn("Skipped item in step: {} (phase: {}) - {}",
+                stepExecution.getStepName(), phase, error.toString());
+    }
+
+    private static StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context == null ? null : context.getStepExecution();
+    }
+}
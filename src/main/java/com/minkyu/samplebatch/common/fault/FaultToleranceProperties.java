@@ -0,0 +1,26 @@
+package com.minkyu.samplebatch.common.fault;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.fault-tolerance")
+public class FaultToleranceProperties {
+
+    // sampleStep 및 등록 Job의 기본 적용 여부
+    private boolean enabled = false;
+
+    // 일시적 DB 오류의 최대 시도 횟수 (최초 시도 포함)
+    private int retryLimit = 3;
+
+    private long initialBackoffMs = 100;
+
+    private double backoffMultiplier = 2.0;
+
+    private long maxBackoffMs = 5000;
+
+    // Step 당 건너뛸 수 있는 최대 항목 수
+    private int skipLimit = 100;
+}
@@ -0,0 +1,10 @@
+package com.minkyu.samplebatch.common.fault;
+
+/**
+ * 항목을 건너뛴 처리 단계입니다.
+ */
+public enum SkipPhase {
+    READ,
+    PROCESS,
+    WRITE
+}
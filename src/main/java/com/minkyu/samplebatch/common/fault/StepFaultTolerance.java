@@ -0,0 +1,93 @@
+package com.minkyu.samplebatch.common.fault;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.validator.ValidationException;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.policy.ExceptionClassifierRetryPolicy;
+import org.springframework.retry.policy.NeverRetryPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Chunk Step에 장애 허용 모드를 적용합니다.
+ * <ul>
+ *     <li>일시적 DB 오류는 지수 백오프로 재시도</li>
+ *     <li>처리 오류 항목은 롤백 없이 건너뜀</li>
+ *     <li>쓰기 오류 항목은 {@link BisectingItemWriter}로 이분 탐색하여 격리</li>
+ *     <li>건너뛴 항목은 batch_dead_letter 테이블에 기록</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class StepFaultTolerance {
+
+    private final FaultToleranceProperties properties;
+    private final FaultToleranceListener listener;
+    private final PlatformTransactionManager transactionManager;
+
+    public <I, O> SimpleStepBuilder<I, O> apply(SimpleStepBuilder<I, O> builder, ItemWriter<O> writer,
+                                                ItemWriter<O> jdbcWriter) {
+        return apply(builder, writer, jdbcWriter, properties.isEnabled());
+    }
+
+    /**
+     * enabled가 아니면 writer를 설정하고, enabled이면 jdbcWriter로 쓰는 장애 허용 모드를 적용한 builder를 반환합니다.
+     * jdbcWriter는 Step 트랜잭션 매니저와 같은 DataSource로 써야 savepoint 격리가 동작합니다.
+     */
+    public <I, O> SimpleStepBuilder<I, O> apply(SimpleStepBuilder<I, O> builder, ItemWriter<O> writer,
+                                                ItemWriter<O> jdbcWriter, boolean enabled) {
+        if (!enabled) {
+            return builder.writer(writer);
+        }
+
+        ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+        backOffPolicy.setInitialInterval(properties.getInitialBackoffMs());
+        backOffPolicy.setMultiplier(properties.getBackoffMultiplier());
+        backOffPolicy.setMaxInterval(properties.getMaxBackoffMs());
+
+        return builder
+                // savepoint와 Chunk 트랜잭션이 같은 커넥션을 사용하도록 고정
+                .transactionManager(transactionManager)
+                .writer(new BisectingItemWriter<>(jdbcWriter, transactionManager, listener::onIsolatedWriteFailure))
+                .faultTolerant()
+                .retryPolicy(retryPolicy())
+                .backOffPolicy(backOffPolicy)
+                .skipPolicy(this::shouldSkip)
+                // 처리 단계 오류는 Chunk를 롤백/재처리하지 않고 해당 항목만 건너뜀
+                .noRollback(NullPointerException.class)
+                .noRollback(IllegalArgumentException.class)
+                .noRollback(ValidationException.class)
+                .listener((SkipListener<Object, Object>) listener)
+                .listener((RetryListener) listener)
+                .listener((ChunkListener) listener);
+    }
+
+    private RetryPolicy retryPolicy() {
+        SimpleRetryPolicy transientPolicy = new SimpleRetryPolicy(properties.getRetryLimit());
+        NeverRetryPolicy neverRetryPolicy = new NeverRetryPolicy();
+
+        ExceptionClassifierRetryPolicy retryPolicy = new ExceptionClassifierRetryPolicy();
+        retryPolicy.setExceptionClassifier(error ->
+                TransientErrors.isTransient(error) ? transientPolicy : neverRetryPolicy);
+        return retryPolicy;
+    }
+
+    private boolean shouldSkip(Throwable error, int skipCount) {
+        // 재시도가 소진된 일시적 오류는 항목 문제가 아니므로 Step을 실패 처리
+        if (TransientErrors.isTransient(error) || error instanceof SkipLimitExceededException) {
+            return false;
+        }
+        if (skipCount >= properties.getSkipLimit()) {
+            throw new SkipLimitExceededException(properties.getSkipLimit(), error);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.minkyu.samplebatch.common.fault;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+
+import javax.persistence.LockTimeoutException;
+import javax.persistence.PessimisticLockException;
+import javax.persistence.QueryTimeoutException;
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientException;
+
+/**
+ * 재시도하면 성공할 수 있는 일시적 DB 오류(락 대기, 데드락, 조회 시간 초과 등)를 판별합니다.
+ */
+public final class TransientErrors {
+
+    // MySQL lock wait timeout, deadlock
+    private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int ER_LOCK_DEADLOCK = 1213;
+
+    private TransientErrors() {
+    }
+
+    public static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof SQLTransientException
+                    || isLockContentionCause(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 락 대기 시간 초과나 데드락으로 실패했는지 판별합니다.
+     */
+    public static boolean isLockContention(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (isLockContentionCause(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLockContentionCause(Throwable cause) {
+        if (cause instanceof PessimisticLockingFailureException
+                || cause instanceof PessimisticLockException
+                || cause instanceof LockTimeoutException
+                || cause instanceof SQLTransactionRollbackException) {
+            return true;
+        }
+        if (cause instanceof SQLException sqlException) {
+            int errorCode = sqlException.getErrorCode();
+            return errorCode == ER_LOCK_WAIT_TIMEOUT || errorCode == ER_LOCK_DEADLOCK;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.minkyu.samplebatch.common.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+class ConnectionInvocationHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final List<StatementListener> listeners;
+
+    ConnectionInvocationHandler(Connection target, List<StatementListener> listeners) {
+        this.target = target;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if ("unwrap".equals(name) && ((Class<?>) args[0]).isInstance(proxy)) {
+            return proxy;
+        }
+
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+
+        if (listeners.isEmpty()) {
+            return result;
+        }
+
+        // Statement 생성 메서드는 프록시로 감싸서 반환
+        switch (name) {
+            case "createStatement":
+                return wrap((Statement) result, Statement.class, null);
+            case "prepareStatement":
+                return wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+            case "prepareCall":
+                return wrap((Statement) result, CallableStatement.class, (String) args[0]);
+            default:
+                return result;
+        }
+    }
+
+    private Object wrap(Statement statement, Class<?> type, String sql) {
+        return Proxy.newProxyInstance(
+                ConnectionInvocationHandler.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementInvocationHandler(statement, sql, listeners));
+    }
+}
@@ -0,0 +1,40 @@
+package com.minkyu.samplebatch.common.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Connection과 Statement를 프록시로 감싸 {@link StatementListener}를 호출하는 DataSource입니다.
+ */
+public class InterceptingDataSource extends DelegatingDataSource {
+
+    private final Supplier<List<StatementListener>> listeners;
+
+    public InterceptingDataSource(DataSource targetDataSource, Supplier<List<StatementListener>> listeners) {
+        super(targetDataSource);
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                InterceptingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionInvocationHandler(connection, listeners.get()));
+    }
+}
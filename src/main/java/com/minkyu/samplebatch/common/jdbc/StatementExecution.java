@@ -0,0 +1,27 @@
+package com.minkyu.samplebatch.common.jdbc;
+
+import lombok.Getter;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 실행 중인 Statement 한 건의 정보입니다.
+ */
+@Getter
+public class StatementExecution {
+
+    private final Statement statement;
+    private final String sql;
+    private final List<Object> bindValues;
+    private final int batchSize;
+    private final Thread thread;
+
+    StatementExecution(Statement statement, String sql, List<Object> bindValues, int batchSize) {
+        this.statement = statement;
+        this.sql = sql;
+        this.bindValues = bindValues;
+        this.batchSize = batchSize;
+        this.thread = Thread.currentThread();
+    }
+}
@@ -0,0 +1,89 @@
+package com.minkyu.samplebatch.common.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class StatementInvocationHandler implements InvocationHandler {
+
+    private final Statement target;
+    private final String preparedSql;
+    private final List<StatementListener> listeners;
+    private final List<Object> bindValues = new ArrayList<>();
+    private int batchSize;
+
+    StatementInvocationHandler(Statement target, String preparedSql, List<StatementListener> listeners) {
+        this.target = target;
+        this.preparedSql = preparedSql;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+
+        if ("unwrap".equals(name) && ((Class<?>) args[0]).isInstance(proxy)) {
+            return proxy;
+        }
+        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            bind((Integer) args[0], "setNull".equals(name) ? null : args[1]);
+        } else if ("clearParameters".equals(name)) {
+            bindValues.clear();
+        } else if ("addBatch".equals(name)) {
+            batchSize++;
+        } else if ("clearBatch".equals(name)) {
+            batchSize = 0;
+        } else if (name.startsWith("execute")) {
+            return execute(method, args);
+        }
+
+        return invokeTarget(method, args);
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+        String sql = preparedSql != null ? preparedSql
+                : (args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null);
+        StatementExecution execution = new StatementExecution(target, sql,
+                Collections.unmodifiableList(new ArrayList<>(bindValues)), batchSize);
+
+        for (StatementListener listener : listeners) {
+            listener.beforeExecute(execution);
+        }
+
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return invokeTarget(method, args);
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (method.getName().startsWith("executeBatch") || method.getName().startsWith("executeLargeBatch")) {
+                batchSize = 0;
+            }
+            for (StatementListener listener : listeners) {
+                listener.afterExecute(execution, elapsed, error);
+            }
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private void bind(int index, Object value) {
+        while (bindValues.size() < index) {
+            bindValues.add(null);
+        }
+        bindValues.set(index - 1, value);
+    }
+}
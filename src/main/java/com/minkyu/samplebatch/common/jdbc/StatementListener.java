@@ -0,0 +1,22 @@
+package com.minkyu.samplebatch.common.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * JDBC Statement 실행 전후에 호출되는 리스너입니다.
+ * {@link InterceptingDataSource}를 통해 생성된 모든 Statement에 적용됩니다.
+ */
+public interface StatementListener {
+
+    /**
+     * Statement 실행 직전에 호출됩니다. 예외를 던지면 Statement는 실행되지 않습니다.
+     */
+    default void beforeExecute(StatementExecution execution) throws SQLException {
+    }
+
+    /**
+     * Statement 실행 직후에 호출됩니다. 실패한 경우 error가 전달됩니다.
+     */
+    default void afterExecute(StatementExecution execution, long elapsedNanos, Throwable error) {
+    }
+}
@@ -1,11 +1,17 @@
 package com.minkyu.samplebatch.common.monitoring;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import com.minkyu.samplebatch.common.cancel.StopMode;
+import com.minkyu.samplebatch.common.fault.SkipPhase;
+import com.minkyu.samplebatch.common.throttle.WriteThrottle;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.TimeUnit;
@@ -92,4 +98,110 @@ public class BatchMetrics {
         log.info("Job ended - name: {}, execution id: {}, status: {}",
                 jobName, jobExecution.getId(), status);
     }
+
+    /**
+     * 중지 요청부터 Step이 실제로 중지될 때까지 걸린 시간을 기록합니다.
+     */
+    public void recordStopLatency(JobExecution jobExecution, StopMode mode, long elapsedNanos) {
+        String jobName = jobExecution.getJobInstance().getJobName();
+
+        Timer.builder("batch.job.stop.latency")
+                .tag("job.name", jobName)
+                .tag("mode", mode.name())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        log.info("Job stop latency - name: {}, execution id: {}, mode: {}, latency: {}ms",
+                jobName, jobExecution.getId(), mode, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    /**
+     * Step 실행 시간을 기록합니다. afterStep 시점에는 종료 시간이 없으므로 현재 시각을 기준으로 합니다.
+     */
+    public void recordStepDuration(StepExecution stepExecution) {
+        if (stepExecution.getStartTime() == null) {
+            return;
+        }
+        long duration = System.currentTimeMillis() - stepExecution.getStartTime().getTime();
+
+        Timer.builder("batch.step.duration")
+                .tag("job.name", stepExecution.getJobExecution().getJobInstance().getJobName())
+                .tag("step.name", stepExecution.getStepName())
+                .tag("status", stepExecution.getExitStatus().getExitCode())
+                .register(meterRegistry)
+                .record(duration, TimeUnit.MILLISECONDS);
+
+        log.debug("Step duration recorded - name: {}, thread: {}, duration: {}ms",
+                stepExecution.getStepName(), Thread.currentThread().getName(), duration);
+    }
+
+    /**
+     * 건너뛴 항목 수를 단계별로 기록합니다.
+     */
+    public void recordSkip(StepExecution stepExecution, SkipPhase phase) {
+        meterRegistry.counter("batch.step.skips",
+                        "job.name", stepExecution.getJobExecution().getJobInstance().getJobName(),
+                        "step.name", stepExecution.getStepName(),
+                        "phase", phase.name())
+                .increment();
+    }
+
+    /**
+     * 일시적 오류로 인한 재시도 횟수를 기록합니다.
+     */
+    public void recordRetry(StepExecution stepExecution) {
+        meterRegistry.counter("batch.step.retries",
+                        "job.name", stepExecution.getJobExecution().getJobInstance().getJobName(),
+                        "step.name", stepExecution.getStepName())
+                .increment();
+    }
+
+    /**
+     * Step ExecutionContext 저장 시 직렬화 크기(문자 수)와 시간, 저장/생략 여부를 기록합니다.
+     */
+    public void recordExecutionContext(StepExecution stepExecution, int size, long elapsedNanos, boolean written) {
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        String stepName = stepExecution.getStepName();
+
+        DistributionSummary.builder("batch.context.size")
+                .baseUnit("bytes")
+                .tag("job.name", jobName)
+                .tag("step.name", stepName)
+                .register(meterRegistry)
+                .record(size);
+
+        Timer.builder("batch.context.serialization")
+                .tag("job.name", jobName)
+                .tag("step.name", stepName)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        meterRegistry.counter("batch.context.writes",
+                        "job.name", jobName,
+                        "step.name", stepName,
+                        "result", written ? "written" : "skipped")
+                .increment();
+    }
+
+    /**
+     * Job 실행의 현재 쓰기 허용량(초당)을 게이지로 등록합니다.
+     */
+    public void registerThrottle(JobExecution jobExecution, WriteThrottle throttle) {
+        Gauge.builder("batch.throttle.rate", throttle, WriteThrottle::getRate)
+                .tags(throttleTags(jobExecution, throttle))
+                .register(meterRegistry);
+    }
+
+    public void removeThrottle(JobExecution jobExecution) {
+        meterRegistry.find("batch.throttle.rate")
+                .tag("execution.id", String.valueOf(jobExecution.getId()))
+                .meters()
+                .forEach(meterRegistry::remove);
+    }
+
+    private Tags throttleTags(JobExecution jobExecution, WriteThrottle throttle) {
+        return Tags.of("job.name", jobExecution.getJobInstance().getJobName(),
+                "execution.id", String.valueOf(jobExecution.getId()),
+                "unit", throttle.getUnit().name());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.minkyu.samplebatch.common.monitoring;
+
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * 현재 스레드가 처리 중인 Step과 Chunk 정보를 보관합니다.
+ * SQL 로그 등 배치 외부 계층에서 실행 위치를 확인할 때 사용합니다.
+ */
+public final class BatchTraceContext {
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private BatchTraceContext() {
+    }
+
+    public static void set(StepExecution stepExecution, int chunkNumber) {
+        CURRENT.set(new Trace(stepExecution, chunkNumber));
+    }
+
+    public static Trace get() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public record Trace(StepExecution stepExecution, int chunkNumber) {
+
+        public Long jobExecutionId() {
+            return stepExecution.getJobExecutionId();
+        }
+
+        public String stepName() {
+            return stepExecution.getStepName();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.minkyu.samplebatch.common.monitoring;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chunk 처리 스레드에 {@link BatchTraceContext}를 설정합니다.
+ */
+@Component
+public class BatchTraceListener implements ChunkListener {
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        BatchTraceContext.set(stepExecution, stepExecution.getCommitCount() + 1);
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        BatchTraceContext.clear();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        BatchTraceContext.clear();
+    }
+}
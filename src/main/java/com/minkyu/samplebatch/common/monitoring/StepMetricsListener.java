@@ -0,0 +1,27 @@
+package com.minkyu.samplebatch.common.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Step별 실행 시간을 기록합니다. 병렬 분기(split)의 분기별 소요 시간을 비교할 때 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StepMetricsListener implements StepExecutionListener {
+
+    private final BatchMetrics batchMetrics;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        batchMetrics.recordStepDuration(stepExecution);
+        return stepExecution.getExitStatus();
+    }
+}
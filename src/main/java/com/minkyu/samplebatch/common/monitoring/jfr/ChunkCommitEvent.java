@@ -0,0 +1,29 @@
+package com.minkyu.samplebatch.common.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.minkyu.samplebatch.ChunkCommit")
+@Label("Batch Chunk Commit")
+@Category({"Spring Batch"})
+@StackTrace(false)
+public class ChunkCommitEvent extends Event {
+
+    @Label("Job Execution Id")
+    public long jobExecutionId;
+
+    @Label("Step Name")
+    public String stepName;
+
+    @Label("Chunk Number")
+    public int chunkNumber;
+
+    @Label("Item Count")
+    public long itemCount;
+
+    @Label("Committed")
+    public boolean committed;
+}
@@ -0,0 +1,119 @@
+package com.minkyu.samplebatch.common.monitoring.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job/Step/Chunk 생명주기를 JFR 이벤트로 기록합니다.
+ * Job 파라미터 {@code jfr.record=true}로 실행하면 해당 실행 동안 JFR 레코딩도 함께 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FlightRecorderListener implements JobExecutionListener, StepExecutionListener, ChunkListener {
+
+    public static final String RECORD_PARAMETER = "jfr.record";
+
+    private final FlightRecordingService flightRecordingService;
+
+    private final Map<Long, JobExecutionEvent> jobEvents = new ConcurrentHashMap<>();
+    private final Map<Long, StepExecutionEvent> stepEvents = new ConcurrentHashMap<>();
+    private final ThreadLocal<ChunkCommitEvent> chunkEvent = new ThreadLocal<>();
+    private final ThreadLocal<Integer> chunkStartWriteCount = new ThreadLocal<>();
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        if ("true".equalsIgnoreCase(jobExecution.getJobParameters().getString(RECORD_PARAMETER))) {
+            flightRecordingService.start(jobExecution.getId());
+        }
+
+        JobExecutionEvent event = new JobExecutionEvent();
+        if (event.isEnabled()) {
+            event.jobName = jobExecution.getJobInstance().getJobName();
+            event.jobExecutionId = jobExecution.getId();
+            event.begin();
+            jobEvents.put(jobExecution.getId(), event);
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        JobExecutionEvent event = jobEvents.remove(jobExecution.getId());
+        if (event != null) {
+            event.status = jobExecution.getStatus().name();
+            event.commit();
+        }
+        flightRecordingService.stop(jobExecution.getId());
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        StepExecutionEvent event = new StepExecutionEvent();
+        if (event.isEnabled()) {
+            event.jobExecutionId = stepExecution.getJobExecutionId();
+            event.stepName = stepExecution.getStepName();
+            event.begin();
+            stepEvents.put(stepExecution.getId(), event);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        StepExecutionEvent event = stepEvents.remove(stepExecution.getId());
+        if (event != null) {
+            event.status = stepExecution.getStatus().name();
+            event.readCount = stepExecution.getReadCount();
+            event.writeCount = stepExecution.getWriteCount();
+            event.commit();
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkCommitEvent event = new ChunkCommitEvent();
+        if (event.isEnabled()) {
+            StepExecution stepExecution = context.getStepContext().getStepExecution();
+            event.jobExecutionId = stepExecution.getJobExecutionId();
+            event.stepName = stepExecution.getStepName();
+            event.chunkNumber = stepExecution.getCommitCount() + 1;
+            event.begin();
+            chunkEvent.set(event);
+            chunkStartWriteCount.set(stepExecution.getWriteCount());
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        commitChunkEvent(context, true);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        commitChunkEvent(context, false);
+    }
+
+    private void commitChunkEvent(ChunkContext context, boolean committed) {
+        ChunkCommitEvent event = chunkEvent.get();
+        if (event == null) {
+            return;
+        }
+        chunkEvent.remove();
+        Integer startWriteCount = chunkStartWriteCount.get();
+        chunkStartWriteCount.remove();
+
+        int writeCount = context.getStepContext().getStepExecution().getWriteCount();
+        event.itemCount = committed && startWriteCount != null ? writeCount - startWriteCount : 0;
+        event.committed = committed;
+        event.commit();
+    }
+}
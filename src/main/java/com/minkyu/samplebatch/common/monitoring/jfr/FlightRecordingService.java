@@ -0,0 +1,88 @@
+package com.minkyu.samplebatch.common.monitoring.jfr;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job 실행 단위로 JFR 레코딩을 시작/종료하고 결과 파일을 관리합니다.
+ */
+@Slf4j
+@Component
+public class FlightRecordingService {
+
+    private final Path recordingDirectory;
+    private final String configurationName;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    public FlightRecordingService(
+            @Value("${batch.jfr.directory:${java.io.tmpdir}/batch-jfr}") String recordingDirectory,
+            @Value("${batch.jfr.configuration:profile}") String configurationName) {
+        this.recordingDirectory = Paths.get(recordingDirectory);
+        this.configurationName = configurationName;
+    }
+
+    /**
+     * 지정한 Job 실행에 대한 레코딩을 시작합니다. 이미 레코딩 중이면 무시합니다.
+     */
+    public void start(Long jobExecutionId) {
+        recordings.computeIfAbsent(jobExecutionId, id -> {
+            try {
+                Files.createDirectories(recordingDirectory);
+                Recording recording = new Recording(Configuration.getConfiguration(configurationName));
+                recording.setName("batch-execution-" + id);
+                recording.setDestination(recordingFile(id));
+                recording.setToDisk(true);
+                recording.start();
+                log.info("JFR recording started - execution id: {}, file: {}", id, recordingFile(id));
+                return recording;
+            } catch (Exception e) {
+                throw new BatchException("JFR_RECORDING_FAILED",
+                        "Failed to start JFR recording for execution: " + id, e);
+            }
+        });
+    }
+
+    /**
+     * 레코딩을 종료하고 파일로 기록합니다. 레코딩 중이 아니면 무시합니다.
+     */
+    public void stop(Long jobExecutionId) {
+        Recording recording = recordings.remove(jobExecutionId);
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            recording.close();
+            log.info("JFR recording finished - execution id: {}", jobExecutionId);
+        }
+    }
+
+    public boolean isRecording(Long jobExecutionId) {
+        Recording recording = recordings.get(jobExecutionId);
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * 종료된 레코딩 파일을 반환합니다.
+     */
+    public Optional<Path> getRecordingFile(Long jobExecutionId) {
+        Path file = recordingFile(jobExecutionId);
+        if (isRecording(jobExecutionId) || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    private Path recordingFile(Long jobExecutionId) {
+        return recordingDirectory.resolve("batch-execution-" + jobExecutionId + ".jfr");
+    }
+}
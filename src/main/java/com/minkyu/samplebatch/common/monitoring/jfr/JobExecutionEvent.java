@@ -0,0 +1,23 @@
+package com.minkyu.samplebatch.common.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.minkyu.samplebatch.JobExecution")
+@Label("Batch Job Execution")
+@Category({"Spring Batch"})
+@StackTrace(false)
+public class JobExecutionEvent extends Event {
+
+    @Label("Job Name")
+    public String jobName;
+
+    @Label("Job Execution Id")
+    public long jobExecutionId;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,26 @@
+package com.minkyu.samplebatch.common.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.minkyu.samplebatch.ReaderPageFetch")
+@Label("Batch Reader Page Fetch")
+@Category({"Spring Batch"})
+@StackTrace(false)
+public class ReaderPageFetchEvent extends Event {
+
+    @Label("Reader Name")
+    public String readerName;
+
+    @Label("Page")
+    public int page;
+
+    @Label("Page Size")
+    public int pageSize;
+
+    @Label("Item Count")
+    public int itemCount;
+}
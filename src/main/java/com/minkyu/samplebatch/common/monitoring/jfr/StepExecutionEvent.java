@@ -0,0 +1,29 @@
+package com.minkyu.samplebatch.common.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.minkyu.samplebatch.StepExecution")
+@Label("Batch Step Execution")
+@Category({"Spring Batch"})
+@StackTrace(false)
+public class StepExecutionEvent extends Event {
+
+    @Label("Job Execution Id")
+    public long jobExecutionId;
+
+    @Label("Step Name")
+    public String stepName;
+
+    @Label("Status")
+    public String status;
+
+    @Label("Read Count")
+    public long readCount;
+
+    @Label("Write Count")
+    public long writeCount;
+}
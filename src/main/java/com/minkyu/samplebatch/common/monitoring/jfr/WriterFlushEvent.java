@@ -0,0 +1,20 @@
+package com.minkyu.samplebatch.common.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.minkyu.samplebatch.WriterFlush")
+@Label("Batch Writer Flush")
+@Category({"Spring Batch"})
+@StackTrace(false)
+public class WriterFlushEvent extends Event {
+
+    @Label("Writer Name")
+    public String writerName;
+
+    @Label("Item Count")
+    public int itemCount;
+}
@@ -0,0 +1,87 @@
+package com.minkyu.samplebatch.common.monitoring.sql;
+
+import com.minkyu.samplebatch.common.jdbc.StatementExecution;
+import com.minkyu.samplebatch.common.jdbc.StatementListener;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 SQL과 샘플링된 SQL만 바인드 값, Step, Chunk 정보와 함께 기록합니다.
+ */
+@Slf4j(topic = "com.minkyu.samplebatch.sql")
+@Component
+@RequiredArgsConstructor
+public class SlowQueryLogger implements StatementListener {
+
+    private final SqlLoggingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong slowCount = new AtomicLong();
+    private final AtomicLong sampledCount = new AtomicLong();
+
+    @Override
+    public void afterExecute(StatementExecution execution, long elapsedNanos, Throwable error) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long count = totalCount.incrementAndGet();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        BatchTraceContext.Trace trace = BatchTraceContext.get();
+        String stepName = trace != null ? trace.stepName() : "-";
+
+        if (elapsedMs >= properties.getSlowThresholdMs()) {
+            slowCount.incrementAndGet();
+            meterRegistry.counter("batch.sql.slow", "step.name", stepName).increment();
+            log.warn("Slow SQL - {}ms, step: {}, chunk: {}, batch: {}, sql: {}, binds: {}{}",
+                    elapsedMs, stepName, trace != null ? trace.chunkNumber() : "-",
+                    execution.getBatchSize(), execution.getSql(), formatBinds(execution.getBindValues()),
+                    error != null ? ", error: " + error.getMessage() : "");
+            return;
+        }
+
+        int sampleRate = properties.getSampleRate();
+        if (sampleRate > 0 && count % sampleRate == 0) {
+            sampledCount.incrementAndGet();
+            log.info("Sampled SQL - {}ms, step: {}, chunk: {}, batch: {}, sql: {}, binds: {}",
+                    elapsedMs, stepName, trace != null ? trace.chunkNumber() : "-",
+                    execution.getBatchSize(), execution.getSql(), formatBinds(execution.getBindValues()));
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getSlowCount() {
+        return slowCount.get();
+    }
+
+    public long getSampledCount() {
+        return sampledCount.get();
+    }
+
+    private String formatBinds(List<Object> binds) {
+        if (binds.isEmpty()) {
+            return "[]";
+        }
+        int maxLength = properties.getMaxBindValueLength();
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < binds.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            String value = String.valueOf(binds.get(i));
+            sb.append(value.length() > maxLength ? value.substring(0, maxLength) + "..." : value);
+        }
+        return sb.append(']').toString();
+    }
+}
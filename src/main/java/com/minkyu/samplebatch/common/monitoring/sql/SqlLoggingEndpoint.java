@@ -0,0 +1,62 @@
+package com.minkyu.samplebatch.common.monitoring.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL 로깅 임계값을 조회/변경하는 actuator 엔드포인트입니다. (/actuator/sqllogging)
+ */
+@Component
+@Endpoint(id = "sqllogging")
+@RequiredArgsConstructor
+public class SqlLoggingEndpoint {
+
+    private final SqlLoggingProperties properties;
+    private final SlowQueryLogger slowQueryLogger;
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", properties.isEnabled());
+        result.put("slowThresholdMs", properties.getSlowThresholdMs());
+        result.put("sampleRate", properties.getSampleRate());
+        result.put("maxBindValueLength", properties.getMaxBindValueLength());
+        result.put("totalCount", slowQueryLogger.getTotalCount());
+        result.put("slowCount", slowQueryLogger.getSlowCount());
+        result.put("sampledCount", slowQueryLogger.getSampledCount());
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled,
+                                      @Nullable Long slowThresholdMs,
+                                      @Nullable Integer sampleRate,
+                                      @Nullable Integer maxBindValueLength) {
+        if (enabled != null) {
+            properties.setEnabled(enabled);
+        }
+        if (slowThresholdMs != null) {
+            if (slowThresholdMs < 0) {
+                throw new IllegalArgumentException("slowThresholdMs must not be negative");
+            }
+            properties.setSlowThresholdMs(slowThresholdMs);
+        }
+        if (sampleRate != null) {
+            if (sampleRate < 0) {
+                throw new IllegalArgumentException("sampleRate must not be negative");
+            }
+            properties.setSampleRate(sampleRate);
+        }
+        if (maxBindValueLength != null) {
+            properties.setMaxBindValueLength(maxBindValueLength);
+        }
+        return settings();
+    }
+}
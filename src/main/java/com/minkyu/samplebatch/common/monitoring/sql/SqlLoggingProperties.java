@@ -0,0 +1,25 @@
+package com.minkyu.samplebatch.common.monitoring.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SQL 로깅 설정입니다. actuator의 sqllogging 엔드포인트로 실행 중에 변경할 수 있습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.sql-logging")
+public class SqlLoggingProperties {
+
+    private volatile boolean enabled = true;
+
+    // 이 시간(ms) 이상 걸린 SQL은 모두 기록
+    private volatile long slowThresholdMs = 500;
+
+    // 나머지 SQL은 N건당 1건만 기록 (0이면 샘플링하지 않음)
+    private volatile int sampleRate = 1000;
+
+    // 바인드 값 로그 최대 길이
+    private volatile int maxBindValueLength = 100;
+}
@@ -0,0 +1,37 @@
+package com.minkyu.samplebatch.common.throttle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.throttle")
+public class ThrottleProperties {
+
+    // 모든 Job에 기본 적용 여부 (false여도 throttle.limit 파라미터 또는 API로 적용 가능)
+    private boolean enabled = false;
+
+    private ThrottleUnit unit = ThrottleUnit.ITEMS;
+
+    // 초당 허용량 상한
+    private double limit = 1000;
+
+    // 감속 시 하한
+    private double minLimit = 10;
+
+    // 과부하 시 현재 허용량에 곱하는 비율
+    private double backoffFactor = 0.5;
+
+    // 정상 Chunk마다 늘리는 허용량
+    private double increaseStep = 50;
+
+    // 연속 감속 사이 최소 간격 (ms)
+    private long backoffCooldownMs = 5000;
+
+    // 쓰기 시작부터 커밋까지 지연 임계값 (ms)
+    private long commitLatencyThresholdMs = 1000;
+
+    // 커넥션 풀 대기 스레드 수 임계값
+    private int poolPendingThreshold = 1;
+}
@@ -0,0 +1,59 @@
+package com.minkyu.samplebatch.common.throttle;
+
+import com.minkyu.samplebatch.common.monitoring.BatchMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job 실행별 쓰기 제한 상태를 보관합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ThrottleRegistry {
+
+    private final ThrottleProperties properties;
+    private final BatchMetrics batchMetrics;
+
+    private final Map<Long, WriteThrottle> throttles = new ConcurrentHashMap<>();
+    // Job 실행별로 이 노드에서 쓰기 제한을 사용 중인 Job/Step 수
+    private final Map<Long, Integer> users = new ConcurrentHashMap<>();
+
+    public WriteThrottle getOrCreate(JobExecution jobExecution, double limit) {
+        return throttles.computeIfAbsent(jobExecution.getId(), id -> {
+            WriteThrottle throttle = new WriteThrottle(properties, limit);
+            batchMetrics.registerThrottle(jobExecution, throttle);
+            return throttle;
+        });
+    }
+
+    /**
+     * Job 또는 원격 파티션 Worker Step이 쓰기 제한 사용을 시작합니다. 같은 노드에서 함께 실행되면 같은 상태를 공유합니다.
+     */
+    public synchronized WriteThrottle acquire(JobExecution jobExecution, double limit) {
+        users.merge(jobExecution.getId(), 1, Integer::sum);
+        return getOrCreate(jobExecution, limit);
+    }
+
+    /**
+     * 사용을 마칩니다. 이 노드에서 마지막 사용자이면 제거합니다.
+     */
+    public synchronized void release(JobExecution jobExecution) {
+        if (users.computeIfPresent(jobExecution.getId(), (id, count) -> count > 1 ? count - 1 : null) == null) {
+            remove(jobExecution);
+        }
+    }
+
+    public WriteThrottle get(Long jobExecutionId) {
+        return throttles.get(jobExecutionId);
+    }
+
+    public void remove(JobExecution jobExecution) {
+        if (throttles.remove(jobExecution.getId()) != null) {
+            batchMetrics.removeThrottle(jobExecution);
+        }
+    }
+}
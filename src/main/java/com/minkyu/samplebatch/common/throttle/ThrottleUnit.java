@@ -0,0 +1,11 @@
+package com.minkyu.samplebatch.common.throttle;
+
+/**
+ * 쓰기 제한 단위입니다.
+ */
+public enum ThrottleUnit {
+    // 초당 쓰기 항목 수
+    ITEMS,
+    // 초당 커밋(Chunk) 수
+    COMMITS
+}
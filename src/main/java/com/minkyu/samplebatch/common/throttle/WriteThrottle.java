@@ -0,0 +1,107 @@
+package com.minkyu.samplebatch.common.throttle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Job 실행 하나의 쓰기 속도를 제한합니다.
+ * 허용량은 과부하 신호에 따라 곱셈으로 줄이고 정상 Chunk마다 덧셈으로 상한까지 회복합니다(AIMD).
+ */
+public class WriteThrottle {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final ThrottleUnit unit;
+    private final double configuredMinLimit;
+    private final double backoffFactor;
+    private final double increaseStep;
+    private final long backoffCooldownNanos;
+
+    private double limit;
+    private double minLimit;
+    private double rate;
+    private long nextFreeNanos;
+    private long lastBackoffNanos;
+    private long backoffCount;
+
+    public WriteThrottle(ThrottleProperties properties, double limit) {
+        this.unit = properties.getUnit();
+        this.configuredMinLimit = properties.getMinLimit();
+        this.minLimit = Math.min(configuredMinLimit, limit);
+        this.backoffFactor = properties.getBackoffFactor();
+        this.increaseStep = properties.getIncreaseStep();
+        this.backoffCooldownNanos = TimeUnit.MILLISECONDS.toNanos(properties.getBackoffCooldownMs());
+        this.limit = limit;
+        this.rate = limit;
+        this.nextFreeNanos = System.nanoTime();
+        this.lastBackoffNanos = nextFreeNanos - backoffCooldownNanos;
+    }
+
+    /**
+     * 기록한 양만큼 허용량을 차감하고 다음 쓰기가 가능할 때까지 대기합니다. 중지 요청이 들어오면 대기를 멈춥니다.
+     */
+    public void acquire(int itemCount, BooleanSupplier stopRequested) throws InterruptedException {
+        int permits = unit == ThrottleUnit.ITEMS ? itemCount : 1;
+        if (permits <= 0) {
+            return;
+        }
+
+        long deadline = reserve(permits);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && !stopRequested.getAsBoolean()) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, MAX_SLEEP_NANOS));
+        }
+    }
+
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        // 쓰기에 걸린 시간은 인정하되 유휴 시간은 최대 1초까지만 누적
+        if (nextFreeNanos - now < -NANOS_PER_SECOND) {
+            nextFreeNanos = now - NANOS_PER_SECOND;
+        }
+        nextFreeNanos += (long) (permits * NANOS_PER_SECOND / rate);
+        return nextFreeNanos;
+    }
+
+    /**
+     * Chunk 커밋 결과를 반영합니다.
+     */
+    public synchronized void onChunkCompleted(boolean overloaded) {
+        long now = System.nanoTime();
+        if (overloaded) {
+            if (now - lastBackoffNanos >= backoffCooldownNanos) {
+                rate = Math.max(minLimit, rate * backoffFactor);
+                lastBackoffNanos = now;
+                backoffCount++;
+            }
+        } else if (rate < limit) {
+            rate = Math.min(limit, rate + increaseStep);
+        }
+    }
+
+    /**
+     * 상한을 변경합니다. 현재 허용량이 상한보다 크면 즉시 낮추고, 하한도 상한을 넘지 않도록 맞춥니다.
+     */
+    public synchronized void setLimit(double limit) {
+        this.limit = limit;
+        this.minLimit = Math.min(configuredMinLimit, limit);
+        this.rate = Math.min(rate, limit);
+    }
+
+    public ThrottleUnit getUnit() {
+        return unit;
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    public synchronized long getBackoffCount() {
+        return backoffCount;
+    }
+}
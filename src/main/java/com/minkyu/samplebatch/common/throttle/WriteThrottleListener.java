@@ -0,0 +1,167 @@
+package com.minkyu.samplebatch.common.throttle;
+
+import com.minkyu.samplebatch.common.fault.TransientErrors;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋 지연, 락 대기 오류, 커넥션 풀 대기로 과부하를 판단해 허용량을 조절하고 커밋 후 허용량만큼 대기합니다.
+ * 대기는 트랜잭션 밖(afterChunk)에서 하므로 커넥션을 점유하지 않습니다.
+ * Job 파라미터 throttle.limit 또는 batch.throttle.enabled 설정이 있을 때 적용됩니다.
+ * 원격 파티션 Worker처럼 Job 리스너가 실행되지 않는 노드에서는 {@link #remoteStepListener()}를 Step에 함께 등록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WriteThrottleListener implements JobExecutionListener, ChunkListener, ItemWriteListener<Object> {
+
+    public static final String LIMIT_PARAMETER = "throttle.limit";
+
+    private static final ThreadLocal<Long> WRITE_STARTED = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> WRITE_ITEMS = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> LOCK_CONTENTION = new ThreadLocal<>();
+
+    private final ThrottleRegistry throttleRegistry;
+    private final ThrottleProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // remoteStepListener가 쓰기 제한을 등록한 StepExecution id
+    private final Set<Long> throttledSteps = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        Double limit = configuredLimit(jobExecution.getJobParameters());
+        if (limit != null) {
+            throttleRegistry.acquire(jobExecution, limit);
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        throttleRegistry.release(jobExecution);
+    }
+
+    /**
+     * Step 실행 동안 이 노드에 쓰기 제한을 등록하는 리스너입니다. 제한은 노드별로 적용되므로
+     * Worker 노드가 N개이면 전체 쓰기 속도는 최대 N × limit 입니다.
+     */
+    public StepExecutionListener remoteStepListener() {
+        return new StepExecutionListener() {
+            @Override
+            public void beforeStep(StepExecution stepExecution) {
+                Double limit = configuredLimit(stepExecution.getJobParameters());
+                if (limit != null) {
+                    throttleRegistry.acquire(stepExecution.getJobExecution(), limit);
+                    throttledSteps.add(stepExecution.getId());
+                }
+            }
+
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                if (throttledSteps.remove(stepExecution.getId())) {
+                    throttleRegistry.release(stepExecution.getJobExecution());
+                }
+                return null;
+            }
+        };
+    }
+
+    private Double configuredLimit(JobParameters jobParameters) {
+        String limit = jobParameters.getString(LIMIT_PARAMETER);
+        if (limit != null) {
+            return Double.parseDouble(limit);
+        }
+        return properties.isEnabled() ? properties.getLimit() : null;
+    }
+
+    @Override
+    public void beforeWrite(List<?> items) {
+        WRITE_STARTED.set(System.nanoTime());
+        WRITE_ITEMS.set(items.size());
+    }
+
+    @Override
+    public void afterWrite(List<?> items) {
+    }
+
+    @Override
+    public void onWriteError(Exception exception, List<?> items) {
+        if (TransientErrors.isLockContention(exception)) {
+            LOCK_CONTENTION.set(Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        WriteThrottle throttle = throttleRegistry.get(stepExecution.getJobExecutionId());
+        Long started = WRITE_STARTED.get();
+        Integer items = WRITE_ITEMS.get();
+        clear();
+        if (throttle == null || started == null) {
+            return;
+        }
+
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        double pending = connectionPoolPending();
+        boolean overloaded = latencyMs > properties.getCommitLatencyThresholdMs()
+                || pending > properties.getPoolPendingThreshold();
+
+        if (overloaded) {
+            log.debug("Write throttle backing off - step: {}, commit latency: {}ms, pool pending: {}",
+                    stepExecution.getStepName(), latencyMs, pending);
+        }
+        throttle.onChunkCompleted(overloaded);
+
+        try {
+            throttle.acquire(items, stepExecution::isTerminateOnly);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        WriteThrottle throttle = throttleRegistry.get(context.getStepContext().getStepExecution().getJobExecutionId());
+        boolean lockContention = Boolean.TRUE.equals(LOCK_CONTENTION.get());
+        clear();
+        if (throttle != null && lockContention) {
+            log.debug("Write throttle backing off on lock contention - step: {}",
+                    context.getStepContext().getStepName());
+            throttle.onChunkCompleted(true);
+        }
+    }
+
+    private double connectionPoolPending() {
+        return meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+
+    private static void clear() {
+        WRITE_STARTED.remove();
+        WRITE_ITEMS.remove();
+        LOCK_CONTENTION.remove();
+    }
+}
@@ -0,0 +1,50 @@
+package com.minkyu.samplebatch.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 건너뛴 항목(dead letter) 기록입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "batch_dead_letter", indexes = @Index(name = "idx_batch_dead_letter_job", columnList = "job_execution_id"))
+public class DeadLetterItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobExecutionId;
+
+    private Long stepExecutionId;
+
+    private String stepName;
+
+    // READ, PROCESS, WRITE
+    @Column(length = 20)
+    private String phase;
+
+    private String itemType;
+
+    @Lob
+    private String payload;
+
+    private String errorType;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.minkyu.samplebatch.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 이메일 도메인별 소속 기관 참조 데이터입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "email_domain")
+public class EmailDomain {
+    @Id
+    @Column(length = 255)
+    private String domain;
+
+    @Column(nullable = false)
+    private String organization;
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.minkyu.samplebatch.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * 원격 파티션 작업 항목입니다. Manager가 등록하고 각 노드의 Worker가 lease를 잡고 실행합니다.
+ * 조회/갱신은 PartitionWorkStore(JDBC)에서 수행하며, 이 엔티티는 테이블 정의 용도입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "batch_partition_work", indexes = {
+        @Index(name = "idx_partition_work_claim", columnList = "status, lease_expires_at"),
+        @Index(name = "idx_partition_work_manager", columnList = "manager_step_execution_id")
+})
+public class PartitionWorkItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobExecutionId;
+
+    @Column(nullable = false)
+    private Long managerStepExecutionId;
+
+    @Column(nullable = false, length = 100)
+    private String stepName;
+
+    @Column(nullable = false)
+    private Long stepExecutionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PartitionWorkStatus status;
+
+    @Column(length = 100)
+    private String owner;
+
+    private Long leaseExpiresAt;
+
+    private int attempts;
+
+    private Long updatedAt;
+}
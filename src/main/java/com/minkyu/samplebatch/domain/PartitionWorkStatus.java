@@ -0,0 +1,8 @@
+package com.minkyu.samplebatch.domain;
+
+public enum PartitionWorkStatus {
+    PENDING,
+    CLAIMED,
+    COMPLETED,
+    FAILED
+}
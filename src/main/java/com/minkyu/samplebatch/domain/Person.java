@@ -24,8 +24,21 @@ public class Person {
     private String name;
     private int age;
     private String email;
+    private String organization;
 
     public void updateEmail(String email) {
         this.email = email;
     }
+
+    public void updateName(String name) {
+        this.name = name;
+    }
+
+    public void updateAge(int age) {
+        this.age = age;
+    }
+
+    public void updateOrganization(String organization) {
+        this.organization = organization;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.minkyu.samplebatch.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Person 변경 outbox 항목입니다. 트리거나 애플리케이션이 등록하고 마이크로 배치가 처리 후 삭제합니다.
+ * 처리에 실패한 변경은 attempts가 늘어나며, 최대 시도 횟수에 도달하면 삭제하지 않고 선점 대상에서 제외합니다.
+ * 조회/삭제는 PersonChangeStore(JDBC)에서 수행하며, 이 엔티티는 테이블 정의 용도입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "person_change")
+public class PersonChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long personId;
+
+    // INSERT, UPDATE, DELETE
+    @Column(length = 20)
+    private String changeType;
+
+    // 변경 시각 (epoch millis)
+    @Column(nullable = false)
+    private Long createdAt;
+
+    // 처리 실패 횟수 (등록 시 생략 가능)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.minkyu.samplebatch.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 중복 이메일로 판정된 Person 기록입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "person_duplicate", indexes = @Index(name = "idx_person_duplicate_job", columnList = "job_execution_id"))
+public class PersonDuplicate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long personId;
+
+    private String email;
+
+    private Long jobExecutionId;
+
+    private LocalDateTime detectedAt;
+}
@@ -1,6 +1,13 @@
 package com.minkyu.samplebatch.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PersonRepository extends JpaRepository<Person, Long> {
-}
\ No newline at end of file
+
+    @Query("SELECT MIN(p.id) FROM Person p")
+    Long findMinId();
+
+    @Query("SELECT MAX(p.id) FROM Person p")
+    Long findMaxId();
+}
@@ -0,0 +1,25 @@
+package com.minkyu.samplebatch.job.dag;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DagConfig {
+
+    @Value("${batch.dag.max-parallelism:4}")
+    private int maxParallelism;
+
+    /**
+     * DAG의 병렬 분기를 실행합니다. 동시 실행 분기 수를 제한하고 나머지는 대기열에서 기다립니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dagTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxParallelism);
+        executor.setMaxPoolSize(maxParallelism);
+        executor.setThreadNamePrefix("dag-");
+        return executor;
+    }
+}
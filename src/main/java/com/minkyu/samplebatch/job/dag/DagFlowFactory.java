@@ -0,0 +1,203 @@
+package com.minkyu.samplebatch.job.dag;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Step 정의 DAG를 Flow로 변환합니다.
+ * <p>
+ * 선행/후행이 하나뿐인 Step은 하나의 순차 체인으로 묶고, 체인을 의존 깊이(level)별로 모아
+ * 같은 level의 체인은 split으로 병렬 실행합니다. level은 순서대로 실행되므로
+ * 직렬-병렬로 분해되지 않는 DAG는 level 경계에서 대기가 생길 수 있습니다.
+ */
+@Component
+public class DagFlowFactory {
+
+    private final TaskExecutor dagTaskExecutor;
+    private final JobRepository jobRepository;
+
+    public DagFlowFactory(@Qualifier("dagTaskExecutor") TaskExecutor dagTaskExecutor, JobRepository jobRepository) {
+        this.dagTaskExecutor = dagTaskExecutor;
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * @param stepFactory Step 정의로 실제 Step을 생성 (Step 이름은 {@link #stepName}을 사용해야 함)
+     */
+    public Flow create(String jobName, List<StepDefinition> definitions, Function<StepDefinition, Step> stepFactory) {
+        Map<String, StepDefinition> byName = index(definitions);
+        List<StepDefinition> ordered = topologicalOrder(byName);
+
+        // 체인 구성: 선행이 하나이고 그 선행의 후행도 하나뿐이면 같은 체인에 이어 붙임
+        Map<String, Integer> dependentCounts = new HashMap<>();
+        ordered.forEach(definition -> definition.getDependsOn()
+                .forEach(dependency -> dependentCounts.merge(dependency, 1, Integer::sum)));
+
+        Map<String, List<StepDefinition>> chainOf = new HashMap<>();
+        List<List<StepDefinition>> chains = new ArrayList<>();
+        for (StepDefinition definition : ordered) {
+            List<String> dependsOn = definition.getDependsOn();
+            if (dependsOn.size() == 1 && dependentCounts.get(dependsOn.get(0)) == 1) {
+                List<StepDefinition> chain = chainOf.get(dependsOn.get(0));
+                chain.add(definition);
+                chainOf.put(definition.getName(), chain);
+            } else {
+                List<StepDefinition> chain = new ArrayList<>();
+                chain.add(definition);
+                chains.add(chain);
+                chainOf.put(definition.getName(), chain);
+            }
+        }
+
+        // 체인 level: 체인 첫 Step의 선행 체인 중 가장 깊은 level + 1
+        Map<List<StepDefinition>, Integer> levels = new IdentityHashMap<>();
+        List<List<Flow>> flowsByLevel = new ArrayList<>();
+        for (List<StepDefinition> chain : chains) {
+            int level = chain.get(0).getDependsOn().stream()
+                    .mapToInt(dependency -> levels.get(chainOf.get(dependency)) + 1)
+                    .max()
+                    .orElse(0);
+            levels.put(chain, level);
+
+            while (flowsByLevel.size() <= level) {
+                flowsByLevel.add(new ArrayList<>());
+            }
+            flowsByLevel.get(level).add(chainFlow(jobName, chain, stepFactory));
+        }
+
+        FlowBuilder<SimpleFlow> builder = new FlowBuilder<>(jobName + ".dag");
+        for (int level = 0; level < flowsByLevel.size(); level++) {
+            Flow levelFlow = levelFlow(jobName, level, flowsByLevel.get(level));
+            if (level == 0) {
+                builder.start(levelFlow);
+            } else {
+                builder.next(levelFlow);
+            }
+        }
+        return builder.build();
+    }
+
+    public static String stepName(String jobName, StepDefinition definition) {
+        return jobName + "." + definition.getName();
+    }
+
+    private Flow levelFlow(String jobName, int level, List<Flow> flows) {
+        if (flows.size() == 1) {
+            return flows.get(0);
+        }
+        return new FlowBuilder<SimpleFlow>(jobName + ".level-" + level)
+                .split(dagTaskExecutor)
+                .add(flows.toArray(new Flow[0]))
+                .build();
+    }
+
+    private Flow chainFlow(String jobName, List<StepDefinition> chain, Function<StepDefinition, Step> stepFactory) {
+        FlowBuilder<SimpleFlow> builder = new FlowBuilder<>(jobName + ".chain-" + chain.get(0).getName());
+        for (int i = 0; i < chain.size(); i++) {
+            Flow stepFlow = stepFlow(jobName, chain.get(i), stepFactory.apply(chain.get(i)));
+            if (i == 0) {
+                builder.start(stepFlow);
+            } else {
+                builder.next(stepFlow);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 선행 Step이 있으면 조건 판단 후 실행하고, allowFailure이면 실패해도 흐름을 정상 종료합니다.
+     */
+    private Flow stepFlow(String jobName, StepDefinition definition, Step step) {
+        FlowBuilder<SimpleFlow> builder = new FlowBuilder<>(stepName(jobName, definition) + ".flow");
+
+        if (definition.getDependsOn().isEmpty()) {
+            builder.start(step);
+        } else {
+            List<String> dependencies = definition.getDependsOn().stream()
+                    .map(dependency -> jobName + "." + dependency)
+                    .toList();
+            String condition = definition.getCondition() == null
+                    ? ExitStatus.COMPLETED.getExitCode()
+                    : definition.getCondition();
+            DependencyDecider decider = new DependencyDecider(jobRepository, dependencies, condition);
+
+            builder.start(decider)
+                    .on(DependencyDecider.SKIP.getName()).end()
+                    .from(decider).on(DependencyDecider.RUN.getName()).to(step);
+        }
+
+        if (definition.isAllowFailure()) {
+            builder.from(step).on(ExitStatus.FAILED.getExitCode()).end()
+                    .from(step).on("*").end();
+        }
+        return builder.build();
+    }
+
+    private static Map<String, StepDefinition> index(List<StepDefinition> definitions) {
+        Map<String, StepDefinition> byName = new LinkedHashMap<>();
+        for (StepDefinition definition : definitions) {
+            if (byName.put(definition.getName(), definition) != null) {
+                throw new BatchException("INVALID_STEP_GRAPH", "Duplicate step name: " + definition.getName());
+            }
+        }
+        byName.values().forEach(definition -> definition.getDependsOn().forEach(dependency -> {
+            if (!byName.containsKey(dependency)) {
+                throw new BatchException("INVALID_STEP_GRAPH",
+                        "Unknown dependency '" + dependency + "' of step: " + definition.getName());
+            }
+        }));
+        return byName;
+    }
+
+    /**
+     * 위상 정렬합니다. 순환이 있으면 예외를 던집니다.
+     */
+    private static List<StepDefinition> topologicalOrder(Map<String, StepDefinition> byName) {
+        Map<String, Integer> remaining = new HashMap<>();
+        Map<String, List<StepDefinition>> dependents = new HashMap<>();
+        Deque<StepDefinition> ready = new ArrayDeque<>();
+
+        for (StepDefinition definition : byName.values()) {
+            remaining.put(definition.getName(), definition.getDependsOn().size());
+            definition.getDependsOn().forEach(dependency ->
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(definition));
+            if (definition.getDependsOn().isEmpty()) {
+                ready.add(definition);
+            }
+        }
+
+        List<StepDefinition> ordered = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            StepDefinition definition = ready.poll();
+            ordered.add(definition);
+            for (StepDefinition dependent : dependents.getOrDefault(definition.getName(), List.of())) {
+                if (remaining.merge(dependent.getName(), -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (ordered.size() != byName.size()) {
+            throw new BatchException("INVALID_STEP_GRAPH", "Step dependencies contain a cycle");
+        }
+        return ordered;
+    }
+}
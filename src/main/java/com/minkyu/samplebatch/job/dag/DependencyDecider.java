@@ -0,0 +1,51 @@
+package com.minkyu.samplebatch.job.dag;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.support.PatternMatcher;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 선행 Step의 종료 코드가 모두 조건과 일치하면 RUN, 아니면 SKIP을 반환합니다.
+ * 선행 Step이 실행되지 않았으면(건너뜀) SKIP입니다.
+ * <p>
+ * 재시작 시 이미 완료된 선행 Step은 다시 실행되지 않아 현재 JobExecution에 없으므로 이전 실행 결과로 판단합니다.
+ */
+class DependencyDecider implements JobExecutionDecider {
+
+    static final FlowExecutionStatus RUN = new FlowExecutionStatus("RUN");
+    static final FlowExecutionStatus SKIP = new FlowExecutionStatus("SKIP");
+
+    private final JobRepository jobRepository;
+    private final List<String> dependencyStepNames;
+    private final String condition;
+
+    DependencyDecider(JobRepository jobRepository, List<String> dependencyStepNames, String condition) {
+        this.jobRepository = jobRepository;
+        this.dependencyStepNames = dependencyStepNames;
+        this.condition = condition;
+    }
+
+    @Override
+    public FlowExecutionStatus decide(JobExecution jobExecution, StepExecution stepExecution) {
+        for (String stepName : dependencyStepNames) {
+            Optional<StepExecution> dependency = jobExecution.getStepExecutions().stream()
+                    .filter(execution -> execution.getStepName().equals(stepName))
+                    .max(Comparator.comparing(StepExecution::getId))
+                    .or(() -> Optional.ofNullable(
+                            jobRepository.getLastStepExecution(jobExecution.getJobInstance(), stepName)));
+
+            if (dependency.isEmpty()
+                    || !PatternMatcher.match(condition, dependency.get().getExitStatus().getExitCode())) {
+                return SKIP;
+            }
+        }
+        return RUN;
+    }
+}
@@ -0,0 +1,42 @@
+package com.minkyu.samplebatch.job.dag;
+
+import com.minkyu.samplebatch.job.rule.PersonRule;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import java.util.List;
+
+/**
+ * 등록 Job을 구성하는 Step 하나의 정의입니다. dependsOn으로 DAG를 구성합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StepDefinition {
+
+    @NotBlank(message = "Step 이름은 필수입니다")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "Step 이름은 영문자, 숫자, 하이픈, 언더스코어만 허용됩니다")
+    private String name;
+
+    // 먼저 끝나야 하는 Step 이름
+    private List<String> dependsOn;
+
+    @Valid
+    private List<PersonRule> rules;
+
+    // 모든 선행 Step의 종료 코드가 일치해야 실행 (패턴, 기본 COMPLETED)
+    private String condition;
+
+    // 실패해도 Job을 실패 처리하지 않음 (condition: FAILED 인 후속 Step 실행 가능)
+    private boolean allowFailure;
+
+    public List<String> getDependsOn() {
+        return dependsOn == null ? List.of() : dependsOn;
+    }
+}
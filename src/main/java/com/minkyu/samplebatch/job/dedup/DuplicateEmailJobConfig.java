@@ -0,0 +1,118 @@
+package com.minkyu.samplebatch.job.dedup;
+
+import com.minkyu.samplebatch.common.cancel.CancellationListener;
+import com.minkyu.samplebatch.common.dedup.DedupProperties;
+import com.minkyu.samplebatch.common.dedup.DuplicateCheckedItem;
+import com.minkyu.samplebatch.common.dedup.DuplicateDetectingProcessor;
+import com.minkyu.samplebatch.common.dedup.DuplicateRoutingItemWriter;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceListener;
+import com.minkyu.samplebatch.common.monitoring.jfr.FlightRecorderListener;
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.sample.listener.SampleJobListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+
+/**
+ * Person.email 중복을 찾아 person_duplicate 테이블에 기록하는 Job입니다.
+ * 이메일은 SampleProcessor와 같이 대문자로 정규화한 값으로 비교합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DedupProperties.class)
+public class DuplicateEmailJobConfig {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final DedupProperties dedupProperties;
+    private final SampleJobListener jobListener;
+    private final BatchTraceListener traceListener;
+    private final CancellationListener cancellationListener;
+    private final FlightRecorderListener flightRecorderListener;
+
+    @Bean
+    public Job duplicateEmailJob() {
+        return new JobBuilder("duplicateEmailJob")
+                .repository(jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(jobListener)
+                .listener(cancellationListener)
+                .listener(flightRecorderListener)
+                .start(duplicateEmailStep())
+                .build();
+    }
+
+    @Bean
+    public Step duplicateEmailStep() {
+        return new StepBuilder("duplicateEmailStep")
+                .repository(jobRepository)
+                .transactionManager(transactionManager)
+                .<Person, DuplicateCheckedItem<Person>>chunk(CHUNK_SIZE)
+                .reader(duplicateEmailReader())
+                .processor(duplicateEmailProcessor())
+                .writer(new DuplicateRoutingItemWriter<>(null, personDuplicateWriter(null)))
+                .listener(traceListener)
+                .listener(cancellationListener)
+                .build();
+    }
+
+    /**
+     * 중복 판정 상태가 메모리에 있으므로 재시작 시에는 처음부터 다시 읽습니다.
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<Person> duplicateEmailReader() {
+        JdbcCursorItemReader<Person> reader = new JdbcCursorItemReader<>();
+        reader.setDataSource(dataSource);
+        reader.setSql("SELECT id, email FROM person ORDER BY id");
+        reader.setFetchSize(CHUNK_SIZE);
+        reader.setRowMapper((rs, rowNum) -> Person.builder()
+                .id(rs.getLong("id"))
+                .email(rs.getString("email"))
+                .build());
+        reader.setSaveState(false);
+        reader.setName("duplicateEmailReader");
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    public DuplicateDetectingProcessor<Person> duplicateEmailProcessor() {
+        return new DuplicateDetectingProcessor<>(Person::getEmail, dedupProperties);
+    }
+
+    @Bean
+    @StepScope
+    public JdbcBatchItemWriter<Person> personDuplicateWriter(
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+        JdbcBatchItemWriter<Person> writer = new JdbcBatchItemWriter<>();
+        writer.setDataSource(dataSource);
+        writer.setSql("INSERT INTO person_duplicate (person_id, email, job_execution_id, detected_at) VALUES (?, ?, ?, ?)");
+        writer.setItemPreparedStatementSetter((person, ps) -> {
+            ps.setLong(1, person.getId());
+            ps.setString(2, person.getEmail());
+            ps.setLong(3, jobExecutionId);
+            ps.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+        });
+        writer.setAssertUpdates(true);
+        return writer;
+    }
+}
@@ -0,0 +1,37 @@
+package com.minkyu.samplebatch.job.dryrun;
+
+import java.util.List;
+
+/**
+ * 표본 실행으로 추정한 Job 전체 실행 비용입니다.
+ * Step 추정치는 순차 실행 기준으로 합산하므로 병렬 분기가 있으면 실제 시간은 더 짧습니다.
+ */
+public record DryRunEstimate(int sampledItems,
+                             long estimatedRows,
+                             long projectedRuntimeMs,
+                             long projectedRuntimeMarginMs,
+                             int currentChunkSize,
+                             int suggestedChunkSize,
+                             int suggestedPartitions,
+                             long estimatedHeapPerChunkBytes,
+                             long expectedStatements,
+                             List<StepEstimate> steps) {
+
+    public record StepEstimate(String stepName,
+                               double readNanosPerItem,
+                               double processNanosPerItem,
+                               double writeNanosPerItem,
+                               double allocatedBytesPerItem,
+                               double filterRatio,
+                               double dirtyRatio,
+                               long projectedRuntimeMs,
+                               long readStatements,
+                               long processStatements,
+                               long writeStatements,
+                               long repositoryStatements) {
+
+        public long totalStatements() {
+            return readStatements + processStatements + writeStatements + repositoryStatements;
+        }
+    }
+}
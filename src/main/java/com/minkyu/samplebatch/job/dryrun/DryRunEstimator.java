@@ -0,0 +1,329 @@
+package com.minkyu.samplebatch.job.dryrun;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.domain.PersonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Person id 범위에서 층화 추출한 구간을 실제 reader 쿼리와 processor로 처리하여 Job 실행 비용을 추정합니다.
+ * <p>
+ * 트랜잭션 없이 준영속 복사본만 처리하므로 쓰기는 발생하지 않으며 커밋/롤백도 하지 않습니다.
+ * 쓰기 비용은 JpaItemWriter의 동작(항목마다 merge SELECT, 값이 바뀐 항목마다 UPDATE)을
+ * 측정한 단건 조회 지연 시간으로 환산합니다. reader는 keyset 조회로 측정하므로
+ * offset 페이징의 깊은 페이지 비용은 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DryRunProperties.class)
+public class DryRunEstimator {
+
+    // Chunk 커밋마다 JobRepository가 실행하는 Statement 수 (상태 확인, StepExecution, ExecutionContext)
+    static final int REPOSITORY_STATEMENTS_PER_CHUNK = 3;
+
+    private static final double Z_95 = 1.96;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PersonRepository personRepository;
+    private final DryRunStatementCounter statementCounter;
+    private final DryRunProperties properties;
+
+    /**
+     * 추정 대상 Step. readListener는 Chunk를 읽는 동안 호출되어야 하는 processor(보강 등)이며 없으면 null입니다.
+     */
+    public record SampledStep(String name, ItemProcessor<Person, Person> processor,
+                              ItemReadListener<Person> readListener) {
+    }
+
+    /**
+     * @param chunkSize 현재 Step의 Chunk 크기 (reader 페이지 크기와 같음)
+     * @param sampleSize 표본 항목 수, null이면 설정값 (maxSampleSize 이하)
+     */
+    public DryRunEstimate estimate(List<SampledStep> steps, int chunkSize, Integer sampleSize) throws Exception {
+        if (sampleSize != null && sampleSize > properties.getMaxSampleSize()) {
+            throw new BatchException("INVALID_SAMPLE_SIZE", String.format("sampleSize must not exceed %d: %d",
+                    properties.getMaxSampleSize(), sampleSize));
+        }
+
+        Long minId = personRepository.findMinId();
+        Long maxId = personRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return new DryRunEstimate(0, 0, 0, 0, chunkSize, chunkSize, 1, 0, 0, List.of());
+        }
+
+        int size = Math.max(1, Objects.requireNonNullElse(sampleSize, properties.getSampleSize()));
+        int blockSize = Math.max(1, Math.min(properties.getBlockSize(), size));
+        int blockCount = (size + blockSize - 1) / blockSize;
+
+        statementCounter.begin();
+        try {
+            List<Block> blocks = readBlocks(minId, maxId, blockCount, blockSize);
+            int sampled = blocks.stream().mapToInt(block -> block.items().size()).sum();
+            if (sampled == 0) {
+                return new DryRunEstimate(0, 0, 0, 0, chunkSize, chunkSize, 1, 0, 0, List.of());
+            }
+
+            double pointNanos = measurePointLookup(blocks);
+            long estimatedRows = estimateRows(blocks, maxId - minId + 1);
+
+            List<DryRunEstimate.StepEstimate> estimates = new ArrayList<>();
+            double[] blockNanosPerItem = new double[blocks.size()];
+            for (SampledStep step : steps) {
+                estimates.add(estimateStep(step, blocks, sampled, estimatedRows, chunkSize,
+                        pointNanos, blockNanosPerItem));
+            }
+            for (int i = 0; i < blocks.size(); i++) {
+                Block block = blocks.get(i);
+                if (!block.items().isEmpty()) {
+                    blockNanosPerItem[i] += (double) block.readNanos() / block.items().size();
+                }
+            }
+
+            return summarize(estimates, sampled, estimatedRows, chunkSize, blockNanosPerItem);
+        } finally {
+            statementCounter.end();
+        }
+    }
+
+    /**
+     * id 범위를 blockCount개 층으로 나누고 각 층의 임의 위치부터 blockSize건을 실제 reader와 같은 엔티티 쿼리로 읽습니다.
+     */
+    private List<Block> readBlocks(long minId, long maxId, int blockCount, int blockSize) {
+        long span = maxId - minId + 1;
+        long stratum = Math.max(1, span / blockCount);
+        List<Block> blocks = new ArrayList<>(blockCount);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (int i = 0; i < blockCount && minId + i * stratum <= maxId; i++) {
+                long start = minId + i * stratum + ThreadLocalRandom.current().nextLong(stratum);
+
+                DryRunStatementCounter.Snapshot before = statementCounter.snapshot();
+                long allocated = allocatedBytes();
+                long begin = System.nanoTime();
+                List<Person> items = entityManager
+                        .createQuery("SELECT p FROM Person p WHERE p.id >= :start ORDER BY p.id", Person.class)
+                        .setParameter("start", start)
+                        .setMaxResults(blockSize)
+                        .getResultList();
+                long elapsed = System.nanoTime() - begin;
+                // 관리 대상에서 분리하여 processor의 변경이 반영되지 않도록 함
+                entityManager.clear();
+
+                long lastId = items.isEmpty() ? maxId : items.get(items.size() - 1).getId();
+                long coveredIds = items.size() < blockSize ? maxId - start + 1 : lastId - start + 1;
+                blocks.add(new Block(items, Math.max(1, coveredIds), elapsed,
+                        statementCounter.snapshot().minus(before).statements(), allocatedBytes() - allocated));
+            }
+        } finally {
+            entityManager.close();
+        }
+        return blocks;
+    }
+
+    /**
+     * 구간별로 실제 존재하는 id 밀도로 전체 행 수를 추정합니다. COUNT(*) 전체 스캔을 피하기 위함입니다.
+     */
+    private long estimateRows(List<Block> blocks, long span) {
+        long rows = 0;
+        long covered = 0;
+        for (Block block : blocks) {
+            rows += block.items().size();
+            covered += block.coveredIds();
+        }
+        return Math.max(rows, Math.round(span * ((double) rows / covered)));
+    }
+
+    /**
+     * JpaItemWriter의 merge가 항목마다 실행하는 단건 조회의 지연 시간을 측정합니다.
+     */
+    private double measurePointLookup(List<Block> blocks) {
+        long nanos = 0;
+        long statements = 0;
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (Block block : blocks) {
+                if (block.items().isEmpty()) {
+                    continue;
+                }
+                DryRunStatementCounter.Snapshot before = statementCounter.snapshot();
+                entityManager.find(Person.class, block.items().get(0).getId());
+                DryRunStatementCounter.Snapshot measured = statementCounter.snapshot().minus(before);
+                entityManager.clear();
+                nanos += measured.nanos();
+                statements += measured.statements();
+            }
+        } finally {
+            entityManager.close();
+        }
+        return statements == 0 ? 0 : (double) nanos / statements;
+    }
+
+    private DryRunEstimate.StepEstimate estimateStep(SampledStep step, List<Block> blocks, int sampled,
+                                                     long estimatedRows, int chunkSize, double pointNanos,
+                                                     double[] blockNanosPerItem) throws Exception {
+        long readNanos = 0;
+        long readStatements = 0;
+        long readAllocated = 0;
+        long processNanos = 0;
+        long processStatements = 0;
+        long processAllocated = 0;
+        int written = 0;
+        int dirty = 0;
+
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            readNanos += block.readNanos();
+            readStatements += block.statements();
+            readAllocated += block.allocatedBytes();
+
+            List<Person> items = new ArrayList<>(block.items().size());
+            block.items().forEach(item -> items.add(copy(item)));
+
+            DryRunStatementCounter.Snapshot before = statementCounter.snapshot();
+            long allocated = allocatedBytes();
+            long begin = System.nanoTime();
+            if (step.readListener() != null) {
+                items.forEach(step.readListener()::afterRead);
+            }
+            for (int j = 0; j < items.size(); j++) {
+                Person result = step.processor().process(items.get(j));
+                if (result != null) {
+                    written++;
+                    if (changed(block.items().get(j), result)) {
+                        dirty++;
+                    }
+                }
+            }
+            long elapsed = System.nanoTime() - begin;
+            processNanos += elapsed;
+            processStatements += statementCounter.snapshot().minus(before).statements();
+            processAllocated += allocatedBytes() - allocated;
+            if (!items.isEmpty()) {
+                blockNanosPerItem[i] += (double) elapsed / items.size();
+            }
+        }
+
+        // 조회 비용을 고정 비용(단건 조회 지연)과 행당 비용으로 나누어 reader 페이지 크기로 환산
+        double fixedNanos = Math.min(pointNanos, (double) readNanos / Math.max(1, readStatements));
+        double rowNanos = Math.max(0, (readNanos - fixedNanos * readStatements) / sampled);
+        double readNanosPerItem = fixedNanos / chunkSize + rowNanos;
+        double processNanosPerItem = (double) processNanos / sampled;
+        double writeRatio = (double) written / sampled;
+        double dirtyRatio = written == 0 ? 0 : (double) dirty / written;
+        double writeNanosPerItem = writeRatio * (1 + dirtyRatio) * pointNanos;
+
+        long chunks = (estimatedRows + chunkSize - 1) / chunkSize;
+        double runtimeNanos = estimatedRows * (readNanosPerItem + processNanosPerItem + writeNanosPerItem)
+                + chunks * REPOSITORY_STATEMENTS_PER_CHUNK * pointNanos;
+
+        return new DryRunEstimate.StepEstimate(step.name(),
+                readNanosPerItem,
+                processNanosPerItem,
+                writeNanosPerItem,
+                (double) (readAllocated + processAllocated) / sampled,
+                1 - writeRatio,
+                dirtyRatio,
+                TimeUnit.NANOSECONDS.toMillis(Math.round(runtimeNanos)),
+                chunks,
+                Math.round((double) estimatedRows * processStatements / sampled),
+                Math.round(estimatedRows * writeRatio * (1 + dirtyRatio)),
+                chunks * REPOSITORY_STATEMENTS_PER_CHUNK);
+    }
+
+    private DryRunEstimate summarize(List<DryRunEstimate.StepEstimate> steps, int sampled, long estimatedRows,
+                                     int chunkSize, double[] blockNanosPerItem) {
+        long runtimeMs = steps.stream().mapToLong(DryRunEstimate.StepEstimate::projectedRuntimeMs).sum();
+        long statements = steps.stream().mapToLong(DryRunEstimate.StepEstimate::totalStatements).sum();
+
+        // 구간별 항목당 비용의 상대 표준 오차로 신뢰 구간을 계산
+        double marginMs = 0;
+        if (blockNanosPerItem.length > 1) {
+            double mean = 0;
+            for (double value : blockNanosPerItem) {
+                mean += value;
+            }
+            mean /= blockNanosPerItem.length;
+            double variance = 0;
+            for (double value : blockNanosPerItem) {
+                variance += (value - mean) * (value - mean);
+            }
+            variance /= blockNanosPerItem.length - 1;
+            if (mean > 0) {
+                marginMs = runtimeMs * Z_95 * Math.sqrt(variance / blockNanosPerItem.length) / mean;
+            }
+        }
+
+        // Chunk 크기: 가장 느린 Step 기준 목표 처리 시간과 힙 예산 중 작은 값
+        double slowestNanosPerItem = steps.stream()
+                .mapToDouble(step -> step.readNanosPerItem() + step.processNanosPerItem() + step.writeNanosPerItem())
+                .max()
+                .orElse(0);
+        double bytesPerItem = steps.stream()
+                .mapToDouble(DryRunEstimate.StepEstimate::allocatedBytesPerItem)
+                .max()
+                .orElse(0);
+        double byTime = slowestNanosPerItem > 0
+                ? TimeUnit.MILLISECONDS.toNanos(properties.getTargetChunkMs()) / slowestNanosPerItem
+                : properties.getMaxChunkSize();
+        double byHeap = bytesPerItem > 0
+                ? Runtime.getRuntime().maxMemory() * properties.getChunkHeapRatio() / bytesPerItem
+                : properties.getMaxChunkSize();
+        int suggestedChunkSize = (int) Math.max(1, Math.min(properties.getMaxChunkSize(), Math.min(byTime, byHeap)));
+
+        long partitions = (runtimeMs + properties.getTargetPartitionRuntimeMs() - 1)
+                / properties.getTargetPartitionRuntimeMs();
+        int suggestedPartitions = (int) Math.max(1, Math.min(properties.getMaxPartitions(), partitions));
+
+        log.info("Dry run sampled {} items: estimated rows {}, projected runtime {}ms (±{}ms), "
+                        + "suggested chunk size {}, partitions {}",
+                sampled, estimatedRows, runtimeMs, Math.round(marginMs), suggestedChunkSize, suggestedPartitions);
+
+        return new DryRunEstimate(sampled, estimatedRows, runtimeMs, Math.round(marginMs), chunkSize,
+                suggestedChunkSize, suggestedPartitions, Math.round(suggestedChunkSize * bytesPerItem),
+                statements, steps);
+    }
+
+    private static Person copy(Person person) {
+        return Person.builder()
+                .id(person.getId())
+                .name(person.getName())
+                .age(person.getAge())
+                .email(person.getEmail())
+                .organization(person.getOrganization())
+                .build();
+    }
+
+    private static boolean changed(Person original, Person result) {
+        return !Objects.equals(original.getName(), result.getName())
+                || original.getAge() != result.getAge()
+                || !Objects.equals(original.getEmail(), result.getEmail())
+                || !Objects.equals(original.getOrganization(), result.getOrganization());
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private record Block(List<Person> items, long coveredIds, long readNanos, long statements, long allocatedBytes) {
+    }
+}
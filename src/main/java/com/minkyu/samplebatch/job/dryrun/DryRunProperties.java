@@ -0,0 +1,33 @@
+package com.minkyu.samplebatch.job.dryrun;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.dry-run")
+public class DryRunProperties {
+
+    // 표본 항목 수 (요청 파라미터로 변경 가능)
+    private int sampleSize = 2000;
+
+    // 요청 파라미터로 지정할 수 있는 최대 표본 항목 수 (표본 전체를 메모리에 읽으므로 제한)
+    private int maxSampleSize = 20_000;
+
+    // 표본 구간 하나에서 연속으로 읽을 항목 수
+    private int blockSize = 100;
+
+    // 권장 Chunk 크기 산정 기준: Chunk 하나의 목표 처리 시간 (ms)
+    private long targetChunkMs = 1000;
+
+    private int maxChunkSize = 1000;
+
+    // Chunk 하나가 차지해도 되는 최대 힙 비율
+    private double chunkHeapRatio = 0.05;
+
+    // 권장 파티션 수 산정 기준: 파티션 하나의 목표 실행 시간 (ms)
+    private long targetPartitionRuntimeMs = 600_000;
+
+    private int maxPartitions = 16;
+}
@@ -0,0 +1,47 @@
+package com.minkyu.samplebatch.job.dryrun;
+
+import com.minkyu.samplebatch.common.jdbc.StatementExecution;
+import com.minkyu.samplebatch.common.jdbc.StatementListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 측정 중인 스레드에서 실행된 Statement 수와 실행 시간을 셉니다.
+ * 측정하지 않는 스레드에는 영향을 주지 않습니다.
+ */
+@Component
+public class DryRunStatementCounter implements StatementListener {
+
+    private final ThreadLocal<long[]> counters = new ThreadLocal<>();
+
+    public void begin() {
+        counters.set(new long[2]);
+    }
+
+    public void end() {
+        counters.remove();
+    }
+
+    /**
+     * begin 이후 누적된 값을 반환합니다.
+     */
+    public Snapshot snapshot() {
+        long[] counter = counters.get();
+        return counter == null ? new Snapshot(0, 0) : new Snapshot(counter[0], counter[1]);
+    }
+
+    @Override
+    public void afterExecute(StatementExecution execution, long elapsedNanos, Throwable error) {
+        long[] counter = counters.get();
+        if (counter != null) {
+            counter[0]++;
+            counter[1] += elapsedNanos;
+        }
+    }
+
+    public record Snapshot(long statements, long nanos) {
+
+        public Snapshot minus(Snapshot other) {
+            return new Snapshot(statements - other.statements, nanos - other.nanos);
+        }
+    }
+}
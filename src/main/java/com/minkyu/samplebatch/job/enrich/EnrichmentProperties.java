@@ -0,0 +1,21 @@
+package com.minkyu.samplebatch.job.enrich;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.enrichment")
+public class EnrichmentProperties {
+
+    // sampleStep 및 등록 Job의 기본 적용 여부
+    private boolean enabled = false;
+
+    private int cacheSize = 10_000;
+
+    private long cacheTtlMs = 600_000;
+
+    // IN 절 하나에 넣을 최대 키 수
+    private int maxKeysPerQuery = 1000;
+}
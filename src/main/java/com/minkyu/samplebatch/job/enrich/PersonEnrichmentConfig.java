@@ -0,0 +1,101 @@
+package com.minkyu.samplebatch.job.enrich;
+
+import com.minkyu.samplebatch.common.enrich.BulkLookupProcessor;
+import com.minkyu.samplebatch.common.enrich.LookupCache;
+import com.minkyu.samplebatch.domain.Person;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이메일 도메인으로 Person의 소속 기관을 채우는 보강 processor를 구성합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class PersonEnrichmentConfig {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EnrichmentProperties properties;
+
+    @Bean
+    public BulkLookupProcessor<Person, String, String> personOrganizationProcessor(MeterRegistry meterRegistry) {
+        return organizationProcessor(meterRegistry);
+    }
+
+    /**
+     * dry run용 보강 processor를 생성합니다.
+     * 표본 조회 결과와 지표가 실행 중인 Job의 캐시와 지표에 섞이지 않도록 전용 캐시와 지표 저장소를 사용합니다.
+     */
+    public BulkLookupProcessor<Person, String, String> dryRunOrganizationProcessor() {
+        return organizationProcessor(new SimpleMeterRegistry());
+    }
+
+    private BulkLookupProcessor<Person, String, String> organizationProcessor(MeterRegistry meterRegistry) {
+        return new BulkLookupProcessor<>("personOrganization",
+                PersonEnrichmentConfig::emailDomain,
+                this::findOrganizations,
+                (person, organization) -> {
+                    person.updateOrganization(organization);
+                    return person;
+                },
+                new LookupCache<>(properties.getCacheSize(), properties.getCacheTtlMs()),
+                meterRegistry);
+    }
+
+    /**
+     * 보강 processor를 앞에 붙인 processor를 반환합니다.
+     */
+    public static ItemProcessor<Person, Person> withOrganization(
+            BulkLookupProcessor<Person, String, String> organizationProcessor, ItemProcessor<Person, Person> processor) {
+        CompositeItemProcessor<Person, Person> composite = new CompositeItemProcessor<>();
+        composite.setDelegates(List.of(organizationProcessor, processor));
+        return composite;
+    }
+
+    private Map<String, String> findOrganizations(Set<String> domains) {
+        Map<String, String> organizations = new HashMap<>();
+        List<String> batch = new ArrayList<>(Math.min(domains.size(), properties.getMaxKeysPerQuery()));
+        for (String domain : domains) {
+            batch.add(domain);
+            if (batch.size() == properties.getMaxKeysPerQuery()) {
+                queryOrganizations(batch, organizations);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            queryOrganizations(batch, organizations);
+        }
+        return organizations;
+    }
+
+    private void queryOrganizations(List<String> domains, Map<String, String> organizations) {
+        jdbcTemplate.query("SELECT domain, organization FROM email_domain WHERE domain IN (:domains)",
+                Map.of("domains", domains),
+                rs -> {
+                    organizations.put(rs.getString(1), rs.getString(2));
+                });
+    }
+
+    private static String emailDomain(Person person) {
+        String email = person.getEmail();
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        if (at < 0 || at == email.length() - 1) {
+            return null;
+        }
+        return email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+}
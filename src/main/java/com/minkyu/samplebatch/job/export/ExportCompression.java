@@ -0,0 +1,16 @@
+package com.minkyu.samplebatch.job.export;
+
+public enum ExportCompression {
+    NONE(".csv"),
+    GZIP(".csv.gz");
+
+    private final String extension;
+
+    ExportCompression(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,151 @@
+package com.minkyu.samplebatch.job.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.minkyu.samplebatch.job.export.chunk.PersonFileItemWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * 파티션별 파일의 건수와 체크섬으로 manifest를 작성합니다.
+ * merge가 켜져 있으면 파티션 파일을 id 순서대로 하나의 파일로 합칩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExportManifestTasklet implements Tasklet {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final JobExplorer jobExplorer;
+    private final String workerStepName;
+    private final Path outputDirectory;
+    private final ExportCompression compression;
+    private final boolean merge;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        Long jobExecutionId = stepExecution.getJobExecutionId();
+
+        // 재시작된 실행에는 이번에 다시 실행된 파티션만 있으므로 JobInstance의 모든 실행에서 파티션별 마지막 실행을 조회
+        // 파티션 이름(partitionN) 순서가 id 구간 순서
+        JobInstance jobInstance = stepExecution.getJobExecution().getJobInstance();
+        List<StepExecution> partitions = jobExplorer.getJobExecutions(jobInstance).stream()
+                .flatMap(execution -> execution.getStepExecutions().stream())
+                .filter(execution -> execution.getStepName().startsWith(workerStepName + ":"))
+                .collect(Collectors.toMap(StepExecution::getStepName, execution -> execution,
+                        BinaryOperator.maxBy(Comparator.comparing(StepExecution::getId))))
+                .values().stream()
+                .filter(execution -> execution.getExecutionContext().containsKey(PersonFileItemWriter.FILE_KEY))
+                .sorted(Comparator.comparingInt(ExportManifestTasklet::partitionIndex))
+                .toList();
+
+        List<Path> files = new ArrayList<>();
+        long totalRows = 0;
+        for (StepExecution partition : partitions) {
+            files.add(Path.of(partition.getExecutionContext().getString(PersonFileItemWriter.FILE_KEY)));
+            totalRows += partition.getExecutionContext().getLong(PersonFileItemWriter.ROW_COUNT_KEY, 0L);
+        }
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        if (merge) {
+            Path merged = outputDirectory.resolve("person-" + jobExecutionId + compression.getExtension());
+            mergeFiles(files, merged);
+            entries.add(entry(merged, totalRows, buffer));
+        } else {
+            for (int i = 0; i < files.size(); i++) {
+                long rows = partitions.get(i).getExecutionContext().getLong(PersonFileItemWriter.ROW_COUNT_KEY, 0L);
+                entries.add(entry(files.get(i), rows, buffer));
+            }
+        }
+
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("jobExecutionId", jobExecutionId);
+        manifest.put("createdAt", LocalDateTime.now().toString());
+        manifest.put("compression", compression.name());
+        manifest.put("totalRows", totalRows);
+        manifest.put("files", entries);
+
+        Path manifestFile = outputDirectory.resolve("person-" + jobExecutionId + ".manifest.json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(manifestFile.toFile(), manifest);
+
+        // manifest 작성 전에 실패하면 재시작 시 다시 합칠 수 있도록 파티션 파일은 manifest 작성 후 삭제
+        if (merge) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        log.info("Export manifest written - file: {}, files: {}, rows: {}", manifestFile, entries.size(), totalRows);
+        return RepeatStatus.FINISHED;
+    }
+
+    private void mergeFiles(List<Path> files, Path merged) throws IOException {
+        try (FileChannel target = FileChannel.open(merged, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // 연결된 gzip member도 유효한 gzip 스트림이므로 압축 여부와 관계없이 이어 붙임
+            for (Path file : files) {
+                try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long position = 0;
+                    long size = source.size();
+                    while (position < size) {
+                        position += source.transferTo(position, size - position, target);
+                    }
+                }
+            }
+            target.force(false);
+        }
+    }
+
+    private Map<String, Object> entry(Path file, long rows, ByteBuffer buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.clear();
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+                size += read;
+            }
+        }
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("file", file.getFileName().toString());
+        entry.put("rows", rows);
+        entry.put("bytes", size);
+        entry.put("crc32", Long.toHexString(crc.getValue()));
+        return entry;
+    }
+
+    private static int partitionIndex(StepExecution execution) {
+        String name = execution.getStepName();
+        return Integer.parseInt(name.substring(name.lastIndexOf("partition") + "partition".length()));
+    }
+}
@@ -0,0 +1,172 @@
+package com.minkyu.samplebatch.job.export;
+
+import com.minkyu.samplebatch.common.cancel.CancellationListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceListener;
+import com.minkyu.samplebatch.common.monitoring.jfr.FlightRecorderListener;
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.export.chunk.PersonFileItemWriter;
+import com.minkyu.samplebatch.job.partition.PersonIdRangePartitioner;
+import com.minkyu.samplebatch.job.sample.listener.SampleJobListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Person 전체를 id 구간별로 병렬 조회하여 파일로 내보내는 Job입니다.
+ * <p>
+ * Job 파라미터: outputDir(기본 export), compression(NONE/GZIP, 기본 GZIP), merge(true/false, 기본 false)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PersonExportJobConfig {
+
+    public static final String WORKER_STEP_NAME = "personExportWorkerStep";
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final PersonIdRangePartitioner partitioner;
+    private final SampleJobListener jobListener;
+    private final BatchTraceListener traceListener;
+    private final CancellationListener cancellationListener;
+    private final FlightRecorderListener flightRecorderListener;
+    private final ObjectMapper objectMapper;
+
+    @Value("${batch.export.grid-size:4}")
+    private int gridSize;
+
+    @Value("${batch.export.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${batch.export.buffer-size:1048576}")
+    private int bufferSize;
+
+    @Bean
+    public Job personExportJob() {
+        return new JobBuilder("personExportJob")
+                .repository(jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(jobListener)
+                .listener(cancellationListener)
+                .listener(flightRecorderListener)
+                .start(personExportManagerStep())
+                .next(personExportManifestStep())
+                .build();
+    }
+
+    @Bean
+    public Step personExportManagerStep() {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(personExportWorkerStep());
+        partitionHandler.setTaskExecutor(exportTaskExecutor());
+        partitionHandler.setGridSize(gridSize);
+
+        return new StepBuilder("personExportManagerStep")
+                .repository(jobRepository)
+                .partitioner(WORKER_STEP_NAME, partitioner)
+                .partitionHandler(partitionHandler)
+                .build();
+    }
+
+    @Bean
+    public Step personExportWorkerStep() {
+        return new StepBuilder(WORKER_STEP_NAME)
+                .repository(jobRepository)
+                .transactionManager(transactionManager)
+                .<Person, Person>chunk(chunkSize)
+                .reader(personExportReader(null, null))
+                .writer(personFileItemWriter(null, null, null, null))
+                .listener(traceListener)
+                .listener(cancellationListener)
+                .build();
+    }
+
+    @Bean
+    public Step personExportManifestStep() {
+        return new StepBuilder("personExportManifestStep")
+                .repository(jobRepository)
+                .transactionManager(transactionManager)
+                .tasklet(exportManifestTasklet(null, null, null))
+                .build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor exportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("export-");
+        return executor;
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Person> personExportReader(
+            @Value("#{stepExecutionContext['" + PersonIdRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + PersonIdRangePartitioner.MAX_ID + "']}") Long maxId) throws Exception {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(dataSource);
+        queryProvider.setSelectClause("SELECT id, name, age, email");
+        queryProvider.setFromClause("FROM person");
+        queryProvider.setWhereClause("WHERE id BETWEEN :minId AND :maxId");
+        queryProvider.setSortKey("id");
+
+        JdbcPagingItemReader<Person> reader = new JdbcPagingItemReader<>();
+        reader.setDataSource(dataSource);
+        reader.setQueryProvider(queryProvider.getObject());
+        reader.setParameterValues(Map.of("minId", minId, "maxId", maxId));
+        reader.setPageSize(chunkSize);
+        reader.setFetchSize(chunkSize);
+        reader.setRowMapper((rs, rowNum) -> Person.builder()
+                .id(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .age(rs.getInt("age"))
+                .email(rs.getString("email"))
+                .build());
+        reader.setName("personExportReader");
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    public PersonFileItemWriter personFileItemWriter(
+            @Value("#{jobParameters['outputDir'] ?: 'export'}") String outputDir,
+            @Value("#{jobParameters['compression'] ?: 'GZIP'}") String compression,
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId,
+            @Value("#{stepExecution.stepName}") String stepName) {
+        ExportCompression exportCompression = ExportCompression.valueOf(compression.toUpperCase());
+        String partitionName = stepName.substring(stepName.indexOf(':') + 1);
+        Path file = Path.of(outputDir, "person-" + jobExecutionId + "-" + partitionName + exportCompression.getExtension());
+        return new PersonFileItemWriter(file, exportCompression, bufferSize);
+    }
+
+    @Bean
+    @StepScope
+    public ExportManifestTasklet exportManifestTasklet(
+            @Value("#{jobParameters['outputDir'] ?: 'export'}") String outputDir,
+            @Value("#{jobParameters['compression'] ?: 'GZIP'}") String compression,
+            @Value("#{jobParameters['merge'] ?: 'false'}") String merge) {
+        return new ExportManifestTasklet(jobExplorer, WORKER_STEP_NAME, Path.of(outputDir),
+                ExportCompression.valueOf(compression.toUpperCase()), Boolean.parseBoolean(merge), objectMapper);
+    }
+}
@@ -0,0 +1,62 @@
+package com.minkyu.samplebatch.job.export.chunk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 입력 블록마다 독립된 gzip member를 채널에 기록합니다.
+ * 연결된 gzip member는 하나의 gzip 스트림으로 읽히므로, member 경계에서 파일을 잘라 재시작할 수 있습니다.
+ * Deflater와 출력 버퍼는 재사용합니다.
+ */
+class GzipMemberWriter implements AutoCloseable {
+
+    private static final byte[] HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] output;
+    private final ByteBuffer trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+
+    GzipMemberWriter(int level, int bufferSize) {
+        this.deflater = new Deflater(level, true);
+        this.output = new byte[bufferSize];
+    }
+
+    void writeMember(FileChannel channel, byte[] data, int offset, int length) throws IOException {
+        deflater.reset();
+        crc.reset();
+        crc.update(data, offset, length);
+
+        writeFully(channel, ByteBuffer.wrap(HEADER));
+
+        deflater.setInput(data, offset, length);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int compressed = deflater.deflate(output);
+            writeFully(channel, ByteBuffer.wrap(output, 0, compressed));
+        }
+
+        trailer.clear();
+        trailer.putInt((int) crc.getValue());
+        trailer.putInt(length);
+        trailer.flip();
+        writeFully(channel, trailer);
+    }
+
+    @Override
+    public void close() {
+        deflater.end();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.minkyu.samplebatch.job.export.chunk;
+
+import com.minkyu.samplebatch.domain.Person;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Person을 CSV 한 줄(UTF-8)로 ByteBuffer에 직접 기록합니다.
+ * 행마다 문자열을 만들지 않으며, 숫자는 자릿수 단위로, ASCII 문자열은 바이트 단위로 기록합니다.
+ */
+class PersonCsvEncoder {
+
+    private final CharsetEncoder utf8 = StandardCharsets.UTF_8.newEncoder();
+    private final byte[] digits = new byte[20];
+
+    /**
+     * 한 행을 기록합니다. 버퍼 공간이 부족하면 position을 되돌리고 false를 반환합니다.
+     */
+    boolean encode(Person person, ByteBuffer buffer) {
+        int mark = buffer.position();
+        try {
+            putLong(buffer, person.getId() != null ? person.getId() : 0L);
+            buffer.put((byte) ',');
+            putString(buffer, person.getName());
+            buffer.put((byte) ',');
+            putLong(buffer, person.getAge());
+            buffer.put((byte) ',');
+            putString(buffer, person.getEmail());
+            buffer.put((byte) '\n');
+            return true;
+        } catch (BufferOverflowException e) {
+            buffer.position(mark);
+            return false;
+        }
+    }
+
+    private void putLong(ByteBuffer buffer, long value) {
+        if (value == 0) {
+            buffer.put((byte) '0');
+            return;
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+            // Long.MIN_VALUE도 처리할 수 있도록 음수 상태로 자릿수를 계산
+        } else {
+            value = -value;
+        }
+
+        int length = 0;
+        while (value != 0) {
+            digits[length++] = (byte) ('0' - (value % 10));
+            value /= 10;
+        }
+        while (length > 0) {
+            buffer.put(digits[--length]);
+        }
+    }
+
+    private void putString(ByteBuffer buffer, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        boolean quote = false;
+        boolean ascii = true;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                quote = true;
+            } else if (c >= 0x80) {
+                ascii = false;
+            }
+        }
+
+        if (quote) {
+            buffer.put((byte) '"');
+        }
+        if (ascii) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.put((byte) '"');
+                }
+                buffer.put((byte) c);
+            }
+        } else {
+            utf8.reset();
+            CharBuffer chars = CharBuffer.wrap(quote ? value.replace("\"", "\"\"") : value);
+            CoderResult result = utf8.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                throw new BufferOverflowException();
+            }
+            if (utf8.flush(buffer).isOverflow()) {
+                throw new BufferOverflowException();
+            }
+        }
+        if (quote) {
+            buffer.put((byte) '"');
+        }
+    }
+}
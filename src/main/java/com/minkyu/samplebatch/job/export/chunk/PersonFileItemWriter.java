@@ -0,0 +1,139 @@
+package com.minkyu.samplebatch.job.export.chunk;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.export.ExportCompression;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Person을 재사용 버퍼에 인코딩하여 FileChannel로 기록하는 Writer입니다.
+ * Chunk마다 기록한 파일 위치를 ExecutionContext에 저장하며, 재시작 시 해당 위치로 파일을 잘라 이어서 기록합니다.
+ */
+@Slf4j
+public class PersonFileItemWriter implements ItemStreamWriter<Person> {
+
+    public static final String FILE_KEY = "export.file";
+    public static final String POSITION_KEY = "export.position";
+    public static final String ROW_COUNT_KEY = "export.rowCount";
+
+    private final Path file;
+    private final ExportCompression compression;
+    private final int bufferSize;
+
+    private final PersonCsvEncoder encoder = new PersonCsvEncoder();
+    private ByteBuffer buffer;
+    private GzipMemberWriter gzipWriter;
+    private FileChannel channel;
+    private Path currentFile;
+    private long rowCount;
+
+    public PersonFileItemWriter(Path file, ExportCompression compression, int bufferSize) {
+        this.file = file;
+        this.compression = compression;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        // 재시작 시에는 이전 실행이 기록하던 파일을 이어서 사용
+        currentFile = executionContext.containsKey(FILE_KEY)
+                ? Path.of(executionContext.getString(FILE_KEY)) : file;
+        long position = executionContext.getLong(POSITION_KEY, 0L);
+        rowCount = executionContext.getLong(ROW_COUNT_KEY, 0L);
+
+        try {
+            Files.createDirectories(currentFile.toAbsolutePath().getParent());
+            channel = FileChannel.open(currentFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+            if (channel.size() < position) {
+                throw new ItemStreamException(String.format(
+                        "Export file is shorter than the checkpoint (file: %s, size: %d, checkpoint: %d)",
+                        currentFile, channel.size(), position));
+            }
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open export file: " + currentFile, e);
+        }
+
+        buffer = ByteBuffer.allocate(bufferSize);
+        if (compression == ExportCompression.GZIP) {
+            gzipWriter = new GzipMemberWriter(Deflater.BEST_SPEED, bufferSize);
+        }
+        log.debug("Export file opened - file: {}, position: {}, rows: {}", currentFile, position, rowCount);
+    }
+
+    @Override
+    public void write(List<? extends Person> items) throws IOException {
+        for (Person person : items) {
+            if (!encoder.encode(person, buffer)) {
+                flush();
+                if (!encoder.encode(person, buffer)) {
+                    throw new BatchException("EXPORT_ROW_TOO_LARGE",
+                            "Row does not fit in export buffer: " + person.getId());
+                }
+            }
+        }
+        flush();
+        rowCount += items.size();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            // 체크포인트 이전 데이터가 디스크에 있어야 재시작 시 잘라낼 위치가 유효함
+            channel.force(false);
+            executionContext.putString(FILE_KEY, currentFile.toString());
+            executionContext.putLong(POSITION_KEY, channel.position());
+            executionContext.putLong(ROW_COUNT_KEY, rowCount);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to sync export file: " + currentFile, e);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close export file: " + currentFile, e);
+        } finally {
+            channel = null;
+            if (gzipWriter != null) {
+                gzipWriter.close();
+                gzipWriter = null;
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        if (buffer.hasRemaining()) {
+            if (gzipWriter != null) {
+                gzipWriter.writeMember(channel, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            } else {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+        buffer.clear();
+    }
+}
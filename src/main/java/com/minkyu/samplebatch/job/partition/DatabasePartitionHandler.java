@@ -0,0 +1,100 @@
+package com.minkyu.samplebatch.job.partition;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import com.minkyu.samplebatch.domain.PartitionWorkStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+import org.springframework.batch.core.repository.JobRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메시지 브로커 없이 공유 DB를 통해 파티션을 분배하는 PartitionHandler입니다.
+ * 파티션별 StepExecution을 작업 테이블에 등록한 뒤, 모든 노드의 Worker가 처리를 마칠 때까지 대기합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DatabasePartitionHandler implements PartitionHandler {
+
+    private final PartitionWorkStore workStore;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final PartitionProperties properties;
+    private final String workerStepName;
+
+    @Override
+    public Collection<StepExecution> handle(StepExecutionSplitter stepSplitter,
+                                            StepExecution managerStepExecution) throws Exception {
+        Set<StepExecution> partitions = stepSplitter.split(managerStepExecution, properties.getGridSize());
+        Long jobExecutionId = managerStepExecution.getJobExecutionId();
+
+        for (StepExecution partition : partitions) {
+            workStore.add(jobExecutionId, managerStepExecution.getId(), workerStepName, partition.getId());
+        }
+        log.info("Partitions published - step: {}, count: {}", managerStepExecution.getStepName(), partitions.size());
+
+        awaitCompletion(managerStepExecution);
+
+        // 재할당된 파티션은 새 StepExecution으로 실행되므로 작업 테이블 기준으로 다시 조회
+        List<StepExecution> results = new ArrayList<>();
+        for (PartitionWorkStore.PartitionResult result : workStore.findResults(managerStepExecution.getId())) {
+            StepExecution partition = jobExplorer.getStepExecution(jobExecutionId, result.stepExecutionId());
+            if (partition == null) {
+                throw new BatchException("PARTITION_FAILED",
+                        "Partition step execution not found: " + result.stepExecutionId());
+            }
+            if (result.status() == PartitionWorkStatus.FAILED && !partition.getStatus().isUnsuccessful()) {
+                markFailed(partition);
+            }
+            results.add(partition);
+        }
+        return results;
+    }
+
+    /**
+     * 시도 횟수를 모두 쓰거나 실행되지 못한 파티션은 StepExecution이 STARTING/STARTED로 남아
+     * 집계 결과가 성공으로 처리되므로 실패로 기록합니다.
+     */
+    private void markFailed(StepExecution partition) {
+        log.warn("Partition failed without a result - step execution: {}, status: {}",
+                partition.getId(), partition.getStatus());
+        partition.setStatus(BatchStatus.FAILED);
+        partition.setExitStatus(ExitStatus.FAILED
+                .addExitDescription("Partition work failed or exhausted its attempts"));
+        partition.setEndTime(new Date());
+        jobRepository.update(partition);
+    }
+
+    private void awaitCompletion(StepExecution managerStepExecution) throws InterruptedException {
+        long deadline = properties.getManagerTimeoutMs() > 0
+                ? System.currentTimeMillis() + properties.getManagerTimeoutMs() : Long.MAX_VALUE;
+
+        while (true) {
+            workStore.failExhausted(properties.getMaxAttempts());
+
+            Map<PartitionWorkStatus, Integer> counts = workStore.countByStatus(managerStepExecution.getId());
+            int remaining = counts.getOrDefault(PartitionWorkStatus.PENDING, 0)
+                    + counts.getOrDefault(PartitionWorkStatus.CLAIMED, 0);
+            if (remaining == 0) {
+                log.info("Partitions finished - step: {}, status: {}", managerStepExecution.getStepName(), counts);
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new BatchException("PARTITION_TIMEOUT",
+                        "Timed out waiting for partitions of step: " + managerStepExecution.getStepName());
+            }
+            Thread.sleep(properties.getManagerPollIntervalMs());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.minkyu.samplebatch.job.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.lang.management.ManagementFactory;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.partition")
+public class PartitionProperties {
+
+    // 파티션 개수
+    private int gridSize = 4;
+
+    // 파티션 실행 중 lease 유지 시간
+    private long leaseDurationMs = 60_000;
+
+    // 재할당 포함 최대 시도 횟수
+    private int maxAttempts = 3;
+
+    // Manager가 파티션 완료 여부를 확인하는 주기
+    private long managerPollIntervalMs = 2_000;
+
+    // Manager가 모든 파티션 완료를 기다리는 최대 시간 (0이면 무제한)
+    private long managerTimeoutMs = 0;
+
+    private Worker worker = new Worker();
+
+    @Getter
+    @Setter
+    public static class Worker {
+
+        // Worker로 참여할지 여부 (명시적으로 켠 인스턴스만 파티션을 선점)
+        private boolean enabled = false;
+
+        // 노드 식별자 (기본값: pid@host)
+        private String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+        // 노드당 동시에 실행할 최대 파티션 수
+        private int maxConcurrent = 2;
+
+        private long pollIntervalMs = 2_000;
+    }
+}
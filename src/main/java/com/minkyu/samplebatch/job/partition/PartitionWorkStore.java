@@ -0,0 +1,110 @@
+package com.minkyu.samplebatch.job.partition;
+
+import com.minkyu.samplebatch.domain.PartitionWorkStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * batch_partition_work 테이블에 대한 JDBC 접근을 담당합니다.
+ * 작업 선점은 조건부 UPDATE(행 잠금)로 수행하여 한 노드만 성공하도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartitionWorkStore {
+
+    private static final String CLAIMABLE =
+            "(status = 'PENDING' OR (status = 'CLAIMED' AND lease_expires_at < ?)) AND attempts < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(Long jobExecutionId, Long managerStepExecutionId, String stepName, Long stepExecutionId) {
+        jdbcTemplate.update("INSERT INTO batch_partition_work "
+                        + "(job_execution_id, manager_step_execution_id, step_name, step_execution_id, status, attempts, updated_at) "
+                        + "VALUES (?, ?, ?, ?, 'PENDING', 0, ?)",
+                jobExecutionId, managerStepExecutionId, stepName, stepExecutionId, System.currentTimeMillis());
+    }
+
+    /**
+     * 대기 중이거나 lease가 만료된 작업을 최대 limit 건 선점합니다.
+     */
+    public List<ClaimedWork> claim(String owner, int limit, long leaseDurationMs, int maxAttempts) {
+        long now = System.currentTimeMillis();
+        List<Long> candidates = jdbcTemplate.queryForList(
+                "SELECT id FROM batch_partition_work WHERE " + CLAIMABLE + " ORDER BY id LIMIT ?",
+                Long.class, now, maxAttempts, limit);
+
+        return candidates.stream()
+                .filter(id -> jdbcTemplate.update("UPDATE batch_partition_work "
+                                + "SET status = 'CLAIMED', owner = ?, lease_expires_at = ?, attempts = attempts + 1, updated_at = ? "
+                                + "WHERE id = ? AND " + CLAIMABLE,
+                        owner, now + leaseDurationMs, now, id, now, maxAttempts) == 1)
+                .map(id -> jdbcTemplate.queryForObject(
+                        "SELECT id, job_execution_id, step_name, step_execution_id, attempts "
+                                + "FROM batch_partition_work WHERE id = ?",
+                        (rs, rowNum) -> new ClaimedWork(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                                rs.getLong(4), rs.getInt(5)),
+                        id))
+                .toList();
+    }
+
+    /**
+     * 실행 중인 작업의 lease를 연장합니다. 다른 노드에 재할당되었다면 false를 반환합니다.
+     */
+    public boolean renew(Long id, String owner, long leaseDurationMs) {
+        long now = System.currentTimeMillis();
+        return jdbcTemplate.update("UPDATE batch_partition_work SET lease_expires_at = ?, updated_at = ? "
+                        + "WHERE id = ? AND owner = ? AND status = 'CLAIMED'",
+                now + leaseDurationMs, now, id, owner) == 1;
+    }
+
+    public void updateStepExecution(Long id, String owner, Long stepExecutionId) {
+        jdbcTemplate.update("UPDATE batch_partition_work SET step_execution_id = ?, updated_at = ? "
+                        + "WHERE id = ? AND owner = ?",
+                stepExecutionId, System.currentTimeMillis(), id, owner);
+    }
+
+    public boolean finish(Long id, String owner, PartitionWorkStatus status) {
+        return jdbcTemplate.update("UPDATE batch_partition_work SET status = ?, lease_expires_at = NULL, updated_at = ? "
+                        + "WHERE id = ? AND owner = ? AND status = 'CLAIMED'",
+                status.name(), System.currentTimeMillis(), id, owner) == 1;
+    }
+
+    /**
+     * 최대 시도 횟수를 넘긴 채 lease가 만료된 작업을 실패 처리합니다.
+     */
+    public int failExhausted(int maxAttempts) {
+        long now = System.currentTimeMillis();
+        return jdbcTemplate.update("UPDATE batch_partition_work SET status = 'FAILED', updated_at = ? "
+                        + "WHERE status = 'CLAIMED' AND lease_expires_at < ? AND attempts >= ?",
+                now, now, maxAttempts);
+    }
+
+    public Map<PartitionWorkStatus, Integer> countByStatus(Long managerStepExecutionId) {
+        Map<PartitionWorkStatus, Integer> counts = new EnumMap<>(PartitionWorkStatus.class);
+        jdbcTemplate.query("SELECT status, COUNT(*) FROM batch_partition_work "
+                        + "WHERE manager_step_execution_id = ? GROUP BY status",
+                rs -> {
+                    counts.put(PartitionWorkStatus.valueOf(rs.getString(1)), rs.getInt(2));
+                },
+                managerStepExecutionId);
+        return counts;
+    }
+
+    public List<PartitionResult> findResults(Long managerStepExecutionId) {
+        return jdbcTemplate.query("SELECT step_execution_id, status FROM batch_partition_work "
+                        + "WHERE manager_step_execution_id = ?",
+                (rs, rowNum) -> new PartitionResult(rs.getLong(1), PartitionWorkStatus.valueOf(rs.getString(2))),
+                managerStepExecutionId);
+    }
+
+    public record ClaimedWork(Long id, Long jobExecutionId, String stepName, Long stepExecutionId, int attempts) {
+    }
+
+    public record PartitionResult(Long stepExecutionId, PartitionWorkStatus status) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.minkyu.samplebatch.job.partition;
+
+import com.minkyu.samplebatch.domain.PartitionWorkStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 작업 테이블에서 파티션을 선점해 Worker Step을 실행합니다.
+ * batch.partition.worker.enabled=true로 띄운 인스턴스만 Worker로 참여합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "batch.partition.worker", name = "enabled", havingValue = "true")
+public class PartitionWorker implements SmartLifecycle {
+
+    private final PartitionWorkStore workStore;
+    private final PartitionProperties properties;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final BeanFactory beanFactory;
+
+    private final Map<Long, RunningWork> running = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    // 선점 조회가 느려도 lease 갱신이 밀리지 않도록 공용 @Scheduled 스레드가 아닌 전용 스레드 2개에서 실행
+    private ThreadPoolTaskScheduler scheduler;
+    private volatile boolean started;
+
+    @Override
+    public void start() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("partition-worker-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::poll, Duration.ofMillis(properties.getWorker().getPollIntervalMs()));
+        scheduler.scheduleWithFixedDelay(this::renewLeases, Duration.ofMillis(properties.getLeaseDurationMs() / 3));
+        started = true;
+        log.info("Partition worker started - node: {}, max concurrent: {}",
+                nodeId(), properties.getWorker().getMaxConcurrent());
+    }
+
+    @Override
+    public void stop() {
+        started = false;
+        scheduler.shutdown();
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        log.info("Partition worker stopped - node: {}", nodeId());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    void poll() {
+        int available = properties.getWorker().getMaxConcurrent() - running.size();
+        if (available <= 0) {
+            return;
+        }
+
+        for (PartitionWorkStore.ClaimedWork work : workStore.claim(nodeId(), available,
+                properties.getLeaseDurationMs(), properties.getMaxAttempts())) {
+            RunningWork runningWork = new RunningWork();
+            running.put(work.id(), runningWork);
+            executor().execute(() -> {
+                try {
+                    execute(work, runningWork);
+                } finally {
+                    running.remove(work.id());
+                }
+            });
+        }
+    }
+
+    /**
+     * 실행 중인 파티션의 lease를 연장합니다. 연장에 실패하면 다른 노드가 이미 재할당받았을 수 있으므로
+     * 같은 id 구간을 두 노드가 동시에 처리하지 않도록 이 노드의 Step을 다음 Chunk 경계에서 중단시킵니다.
+     */
+    void renewLeases() {
+        running.forEach((id, runningWork) -> {
+            if (runningWork.leaseLost || workStore.renew(id, nodeId(), properties.getLeaseDurationMs())) {
+                return;
+            }
+            runningWork.leaseLost = true;
+            StepExecution stepExecution = runningWork.stepExecution;
+            if (stepExecution != null) {
+                stepExecution.setTerminateOnly();
+            }
+            log.warn("Partition lease lost, terminating local execution - work id: {}, node: {}", id, nodeId());
+        });
+    }
+
+    private void execute(PartitionWorkStore.ClaimedWork work, RunningWork runningWork) {
+        PartitionWorkStatus result = PartitionWorkStatus.FAILED;
+        try {
+            StepExecution stepExecution = jobExplorer.getStepExecution(work.jobExecutionId(), work.stepExecutionId());
+            if (stepExecution == null) {
+                log.error("Partition step execution not found - work id: {}", work.id());
+                return;
+            }
+
+            if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+                // 이전 노드가 Step은 완료했지만 작업 상태를 갱신하지 못한 경우
+                result = PartitionWorkStatus.COMPLETED;
+                return;
+            }
+            if (stepExecution.getStatus() != BatchStatus.STARTING) {
+                // 이전 노드가 실행 도중 중단된 경우 마지막 체크포인트로 새 StepExecution을 만들어 재실행
+                stepExecution = restart(work, stepExecution);
+            }
+
+            runningWork.stepExecution = stepExecution;
+            if (runningWork.leaseLost) {
+                stepExecution.setTerminateOnly();
+            }
+
+            log.info("Executing partition - work id: {}, step: {}, node: {}, attempt: {}",
+                    work.id(), stepExecution.getStepName(), nodeId(), work.attempts());
+
+            Step step = beanFactory.getBean(work.stepName(), Step.class);
+            step.execute(stepExecution);
+
+            if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+                result = PartitionWorkStatus.COMPLETED;
+            }
+        } catch (Exception e) {
+            log.error("Partition execution failed - work id: {}", work.id(), e);
+        } finally {
+            if (runningWork.leaseLost) {
+                // 작업은 이미 다른 노드 소유이므로 결과를 보고하지 않음
+                log.warn("Partition result discarded after lease loss - work id: {}", work.id());
+            } else if (!workStore.finish(work.id(), nodeId(), result)) {
+                log.warn("Partition was reassigned before completion - work id: {}", work.id());
+            }
+        }
+    }
+
+    private StepExecution restart(PartitionWorkStore.ClaimedWork work, StepExecution previous) {
+        previous.setStatus(BatchStatus.ABANDONED);
+        previous.setEndTime(new Date());
+        jobRepository.update(previous);
+
+        StepExecution next = previous.getJobExecution().createStepExecution(previous.getStepName());
+        next.setExecutionContext(new ExecutionContext(previous.getExecutionContext()));
+        jobRepository.add(next);
+        workStore.updateStepExecution(work.id(), nodeId(), next.getId());
+
+        log.info("Partition reassigned - work id: {}, previous step execution: {}, new step execution: {}",
+                work.id(), previous.getId(), next.getId());
+        return next;
+    }
+
+    /**
+     * 실행 중인 파티션의 상태. renewLeases와 실행 스레드가 함께 접근합니다.
+     */
+    private static final class RunningWork {
+        private volatile StepExecution stepExecution;
+        private volatile boolean leaseLost;
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(properties.getWorker().getMaxConcurrent());
+        }
+        return executor;
+    }
+
+    private String nodeId() {
+        return properties.getWorker().getNodeId();
+    }
+}
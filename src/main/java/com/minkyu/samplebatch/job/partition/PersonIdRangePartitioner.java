@@ -0,0 +1,53 @@
+package com.minkyu.samplebatch.job.partition;
+
+import com.minkyu.samplebatch.domain.PersonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Person id 범위를 gridSize 개의 구간으로 나눕니다.
+ * 각 파티션의 ExecutionContext에 minId, maxId를 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PersonIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final PersonRepository personRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        Long min = personRepository.findMinId();
+        Long max = personRepository.findMaxId();
+
+        // 데이터가 없으면 빈 구간 하나만 생성
+        if (min == null || max == null) {
+            partitions.put("partition0", range(1L, 0L));
+            return partitions;
+        }
+
+        long size = (max - min) / gridSize + 1;
+        long start = min;
+        for (int i = 0; start <= max; i++) {
+            long end = Math.min(start + size - 1, max);
+            partitions.put("partition" + i, range(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext range(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
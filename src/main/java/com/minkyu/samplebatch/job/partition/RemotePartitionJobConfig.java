@@ -0,0 +1,111 @@
+package com.minkyu.samplebatch.job.partition;
+
+import com.minkyu.samplebatch.common.cancel.CancellationListener;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceListener;
+import com.minkyu.samplebatch.common.monitoring.jfr.FlightRecorderListener;
+import com.minkyu.samplebatch.common.throttle.WriteThrottleListener;
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.sample.chunk.SampleProcessor;
+import com.minkyu.samplebatch.job.sample.chunk.SampleWriter;
+import com.minkyu.samplebatch.job.sample.listener.SampleJobListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+
+/**
+ * 공유 DB를 통해 여러 노드가 Person id 구간을 나누어 처리하는 원격 파티션 Job입니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PartitionProperties.class)
+public class RemotePartitionJobConfig {
+
+    public static final String WORKER_STEP_NAME = "personPartitionWorkerStep";
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PartitionProperties partitionProperties;
+    private final PartitionWorkStore partitionWorkStore;
+    private final PersonIdRangePartitioner partitioner;
+    private final SampleProcessor processor;
+    private final SampleWriter writer;
+    private final SampleJobListener jobListener;
+    private final BatchTraceListener traceListener;
+    private final CancellationListener cancellationListener;
+    private final FlightRecorderListener flightRecorderListener;
+    private final WriteThrottleListener throttleListener;
+
+    @Bean
+    public Job remotePartitionJob() {
+        return new JobBuilder("remotePartitionJob")
+                .repository(jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(jobListener)
+                .listener(cancellationListener)
+                .listener(flightRecorderListener)
+                .listener(throttleListener)
+                .start(personPartitionManagerStep())
+                .build();
+    }
+
+    @Bean
+    public Step personPartitionManagerStep() {
+        return new StepBuilder("personPartitionManagerStep")
+                .repository(jobRepository)
+                .partitioner(WORKER_STEP_NAME, partitioner)
+                .partitionHandler(new DatabasePartitionHandler(
+                        partitionWorkStore, jobExplorer, jobRepository, partitionProperties, WORKER_STEP_NAME))
+                .build();
+    }
+
+    @Bean(WORKER_STEP_NAME)
+    public Step personPartitionWorkerStep() {
+        return new StepBuilder(WORKER_STEP_NAME)
+                .repository(jobRepository)
+                .transactionManager(transactionManager)
+                .<Person, Person>chunk(10)
+                .reader(partitionPersonReader(null, null))
+                .processor(processor)
+                .writer(writer)
+                .listener((ItemWriteListener<Object>) throttleListener)
+                .listener(traceListener)
+                .listener(cancellationListener)
+                // Worker 노드에서는 Job 리스너가 실행되지 않으므로 Step 단위로 쓰기 제한을 등록
+                .listener(throttleListener.remoteStepListener())
+                .listener((ChunkListener) throttleListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<Person> partitionPersonReader(
+            @Value("#{stepExecutionContext['" + PersonIdRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + PersonIdRangePartitioner.MAX_ID + "']}") Long maxId) {
+        JpaPagingItemReader<Person> reader = new JpaPagingItemReader<>();
+        reader.setEntityManagerFactory(entityManagerFactory);
+        reader.setPageSize(10);
+        reader.setQueryString("SELECT p FROM Person p WHERE p.id BETWEEN :minId AND :maxId ORDER BY p.id");
+        reader.setParameterValues(Map.of("minId", minId, "maxId", maxId));
+        reader.setName("partitionPersonReader");
+        return reader;
+    }
+}
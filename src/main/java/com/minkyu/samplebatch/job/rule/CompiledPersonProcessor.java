@@ -0,0 +1,24 @@
+package com.minkyu.samplebatch.job.rule;
+
+import com.minkyu.samplebatch.domain.Person;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 규칙을 하나로 합성한 (Person)Person method handle을 실행하는 processor입니다.
+ * 필터 조건을 만족하지 않으면 null을 반환하여 항목을 제외합니다.
+ */
+public record CompiledPersonProcessor(MethodHandle handle) implements ItemProcessor<Person, Person> {
+
+    @Override
+    public Person process(Person person) throws Exception {
+        try {
+            return (Person) handle.invokeExact(person);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
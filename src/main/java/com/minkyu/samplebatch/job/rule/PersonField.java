@@ -0,0 +1,32 @@
+package com.minkyu.samplebatch.job.rule;
+
+/**
+ * 규칙을 적용할 수 있는 {@link com.minkyu.samplebatch.domain.Person} 필드입니다.
+ */
+public enum PersonField {
+    NAME(String.class, "getName", "updateName"),
+    EMAIL(String.class, "getEmail", "updateEmail"),
+    AGE(int.class, "getAge", "updateAge");
+
+    private final Class<?> type;
+    private final String getter;
+    private final String setter;
+
+    PersonField(Class<?> type, String getter, String setter) {
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    String getGetter() {
+        return getter;
+    }
+
+    String getSetter() {
+        return setter;
+    }
+}
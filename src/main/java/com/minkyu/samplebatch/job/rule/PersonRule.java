@@ -0,0 +1,30 @@
+package com.minkyu.samplebatch.job.rule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Person 항목에 적용할 변환/필터 규칙입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonRule {
+
+    @NotNull(message = "규칙 유형은 필수입니다")
+    private RuleType type;
+
+    @NotNull(message = "규칙 필드는 필수입니다")
+    private PersonField field;
+
+    @NotNull(message = "규칙 연산은 필수입니다")
+    private RuleOperation operation;
+
+    // SET, PREFIX, SUFFIX, ADD, EQUALS, CONTAINS 등의 피연산자
+    private String value;
+}
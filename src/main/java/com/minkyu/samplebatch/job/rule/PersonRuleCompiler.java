@@ -0,0 +1,137 @@
+package com.minkyu.samplebatch.job.rule;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import com.minkyu.samplebatch.domain.Person;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 변환/필터 규칙 목록을 하나의 (Person)Person method handle로 합성합니다.
+ * 연산 선택, 피연산자 변환, 정규식 컴파일은 등록 시 한 번만 수행하므로 항목마다 리플렉션이나 해석 비용이 없습니다.
+ */
+public final class PersonRuleCompiler {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    // 필터를 통과하지 못한 항목은 null(제외)
+    private static final MethodHandle REJECT = MethodHandles.empty(MethodType.methodType(Person.class, Person.class));
+
+    private PersonRuleCompiler() {
+    }
+
+    public static CompiledPersonProcessor compile(List<PersonRule> rules) {
+        MethodHandle chain = MethodHandles.identity(Person.class);
+
+        // 뒤에서부터 감싸서 규칙 순서대로 실행되도록 함
+        for (int i = rules.size() - 1; i >= 0; i--) {
+            PersonRule rule = rules.get(i);
+            try {
+                chain = switch (rule.getType()) {
+                    case TRANSFORM -> MethodHandles.filterArguments(chain, 0, transform(rule));
+                    case FILTER -> MethodHandles.guardWithTest(filter(rule), chain, REJECT);
+                };
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new BatchException("INVALID_RULE",
+                        String.format("Invalid rule #%d: %s %s %s", i + 1, rule.getType(), rule.getField(), rule.getOperation()), e);
+            }
+        }
+        return new CompiledPersonProcessor(chain);
+    }
+
+    /**
+     * (Person)Person: setter(person, function(getter(person)))를 실행하고 person을 반환합니다.
+     */
+    private static MethodHandle transform(PersonRule rule) throws ReflectiveOperationException {
+        PersonField field = rule.getField();
+        Class<?> type = field.getType();
+
+        MethodHandle function = switch (rule.getOperation()) {
+            case UPPERCASE -> function("uppercase", type);
+            case LOWERCASE -> function("lowercase", type);
+            case TRIM -> function("trim", type);
+            case PREFIX -> function("prefix", type, type, operand(rule));
+            case SUFFIX -> function("suffix", type, type, operand(rule));
+            case SET -> function("set", type, type, operand(rule));
+            case ADD -> function("add", type, type, operand(rule));
+            default -> throw unsupported(rule);
+        };
+
+        MethodHandle getter = LOOKUP.findVirtual(Person.class, field.getGetter(), MethodType.methodType(type));
+        MethodHandle setter = LOOKUP.findVirtual(Person.class, field.getSetter(), MethodType.methodType(void.class, type));
+
+        // (Person, Person)void -> (Person)void
+        MethodHandle update = MethodHandles.filterArguments(setter, 1, MethodHandles.filterReturnValue(getter, function));
+        update = MethodHandles.permuteArguments(update, MethodType.methodType(void.class, Person.class), 0, 0);
+
+        return MethodHandles.foldArguments(MethodHandles.identity(Person.class), update);
+    }
+
+    /**
+     * (Person)boolean: test(getter(person))
+     */
+    private static MethodHandle filter(PersonRule rule) throws ReflectiveOperationException {
+        PersonField field = rule.getField();
+        Class<?> type = field.getType();
+
+        MethodHandle test = switch (rule.getOperation()) {
+            case NOT_NULL -> type == String.class
+                    ? predicate("notNull", type)
+                    : MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, type);
+            case EQUALS -> predicate("equalTo", type, type, operand(rule));
+            case CONTAINS -> predicate("contains", type, type, operand(rule));
+            case STARTS_WITH -> predicate("startsWith", type, type, operand(rule));
+            case ENDS_WITH -> predicate("endsWith", type, type, operand(rule));
+            case MATCHES -> predicate("matches", type, Pattern.class, Pattern.compile(requireValue(rule)));
+            case GREATER_THAN -> predicate("greaterThan", type, type, operand(rule));
+            case LESS_THAN -> predicate("lessThan", type, type, operand(rule));
+            default -> throw unsupported(rule);
+        };
+
+        MethodHandle getter = LOOKUP.findVirtual(Person.class, field.getGetter(), MethodType.methodType(type));
+        return MethodHandles.filterReturnValue(getter, test);
+    }
+
+    private static MethodHandle function(String name, Class<?> type) throws ReflectiveOperationException {
+        return LOOKUP.findStatic(RuleFunctions.class, name, MethodType.methodType(type, type));
+    }
+
+    private static MethodHandle function(String name, Class<?> type, Class<?> operandType, Object operand)
+            throws ReflectiveOperationException {
+        MethodHandle handle = LOOKUP.findStatic(RuleFunctions.class, name, MethodType.methodType(type, type, operandType));
+        return MethodHandles.insertArguments(handle, 1, operand);
+    }
+
+    private static MethodHandle predicate(String name, Class<?> type) throws ReflectiveOperationException {
+        return LOOKUP.findStatic(RuleFunctions.class, name, MethodType.methodType(boolean.class, type));
+    }
+
+    private static MethodHandle predicate(String name, Class<?> type, Class<?> operandType, Object operand)
+            throws ReflectiveOperationException {
+        MethodHandle handle = LOOKUP.findStatic(RuleFunctions.class, name, MethodType.methodType(boolean.class, type, operandType));
+        return MethodHandles.insertArguments(handle, 1, operand);
+    }
+
+    /**
+     * 피연산자를 필드 타입으로 변환합니다.
+     */
+    private static Object operand(PersonRule rule) {
+        String value = requireValue(rule);
+        return rule.getField().getType() == int.class ? Integer.valueOf(value.trim()) : value;
+    }
+
+    private static String requireValue(PersonRule rule) {
+        if (rule.getValue() == null) {
+            throw new IllegalArgumentException("Rule value is required for operation: " + rule.getOperation());
+        }
+        return rule.getValue();
+    }
+
+    private static IllegalArgumentException unsupported(PersonRule rule) {
+        return new IllegalArgumentException(
+                String.format("Operation %s is not supported for %s", rule.getOperation(), rule.getType()));
+    }
+}
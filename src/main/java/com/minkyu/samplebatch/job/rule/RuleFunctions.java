@@ -0,0 +1,81 @@
+package com.minkyu.samplebatch.job.rule;
+
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 연산의 구현입니다. {@link PersonRuleCompiler}가 method handle로 연결합니다.
+ * 문자열 연산은 null을 그대로 통과시킵니다.
+ */
+final class RuleFunctions {
+
+    private RuleFunctions() {
+    }
+
+    static String uppercase(String value) {
+        return value == null ? null : value.toUpperCase();
+    }
+
+    static String lowercase(String value) {
+        return value == null ? null : value.toLowerCase();
+    }
+
+    static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    static String prefix(String value, String prefix) {
+        return value == null ? null : prefix.concat(value);
+    }
+
+    static String suffix(String value, String suffix) {
+        return value == null ? null : value.concat(suffix);
+    }
+
+    static String set(String value, String newValue) {
+        return newValue;
+    }
+
+    static int set(int value, int newValue) {
+        return newValue;
+    }
+
+    static int add(int value, int amount) {
+        return value + amount;
+    }
+
+    static boolean notNull(String value) {
+        return value != null;
+    }
+
+    static boolean equalTo(String value, String expected) {
+        return expected.equals(value);
+    }
+
+    static boolean equalTo(int value, int expected) {
+        return value == expected;
+    }
+
+    static boolean contains(String value, String part) {
+        return value != null && value.contains(part);
+    }
+
+    static boolean startsWith(String value, String prefix) {
+        return value != null && value.startsWith(prefix);
+    }
+
+    static boolean endsWith(String value, String suffix) {
+        return value != null && value.endsWith(suffix);
+    }
+
+    static boolean matches(String value, Pattern pattern) {
+        return value != null && pattern.matcher(value).matches();
+    }
+
+    static boolean greaterThan(int value, int bound) {
+        return value > bound;
+    }
+
+    static boolean lessThan(int value, int bound) {
+        return value < bound;
+    }
+}
@@ -0,0 +1,29 @@
+package com.minkyu.samplebatch.job.rule;
+
+/**
+ * 규칙 연산입니다. 문자열 필드와 숫자 필드에 허용되는 연산이 다릅니다.
+ */
+public enum RuleOperation {
+    // TRANSFORM (문자열)
+    UPPERCASE,
+    LOWERCASE,
+    TRIM,
+    PREFIX,
+    SUFFIX,
+    // TRANSFORM (공통)
+    SET,
+    // TRANSFORM (숫자)
+    ADD,
+
+    // FILTER (공통)
+    NOT_NULL,
+    EQUALS,
+    // FILTER (문자열)
+    CONTAINS,
+    STARTS_WITH,
+    ENDS_WITH,
+    MATCHES,
+    // FILTER (숫자)
+    GREATER_THAN,
+    LESS_THAN
+}
@@ -0,0 +1,8 @@
+package com.minkyu.samplebatch.job.rule;
+
+public enum RuleType {
+    // 필드 값 변환
+    TRANSFORM,
+    // 조건을 만족하지 않는 항목 제외
+    FILTER
+}
@@ -1,16 +1,30 @@
 package com.minkyu.samplebatch.job.sample;
 
+import com.minkyu.samplebatch.common.cancel.CancellationListener;
+import com.minkyu.samplebatch.common.enrich.BulkLookupProcessor;
+import com.minkyu.samplebatch.common.fault.StepFaultTolerance;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceListener;
+import com.minkyu.samplebatch.common.monitoring.jfr.FlightRecorderListener;
+import com.minkyu.samplebatch.common.throttle.WriteThrottleListener;
 import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.enrich.EnrichmentProperties;
+import com.minkyu.samplebatch.job.enrich.PersonEnrichmentConfig;
+import com.minkyu.samplebatch.job.sample.chunk.SampleJdbcWriter;
 import com.minkyu.samplebatch.job.sample.chunk.SampleProcessor;
 import com.minkyu.samplebatch.job.sample.chunk.SampleReader;
 import com.minkyu.samplebatch.job.sample.chunk.SampleWriter;
 import com.minkyu.samplebatch.job.sample.listener.SampleJobListener;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,7 +39,15 @@ public class SampleJobConfig {
     private final SampleReader reader;
     private final SampleProcessor processor;
     private final SampleWriter writer;
+    private final SampleJdbcWriter jdbcWriter;
     private final SampleJobListener jobListener;
+    private final BatchTraceListener traceListener;
+    private final FlightRecorderListener flightRecorderListener;
+    private final CancellationListener cancellationListener;
+    private final WriteThrottleListener throttleListener;
+    private final StepFaultTolerance stepFaultTolerance;
+    private final BulkLookupProcessor<Person, String, String> personOrganizationProcessor;
+    private final EnrichmentProperties enrichmentProperties;
 
     @Bean
     public Job sampleJob() {
@@ -33,19 +55,36 @@ public class SampleJobConfig {
                 .repository(jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .listener(jobListener)
+                .listener(flightRecorderListener)
+                .listener(cancellationListener)
+                .listener(throttleListener)
                 .start(sampleStep())
                 .build();
     }
 
     @Bean
     public Step sampleStep() {
-        return new StepBuilder("sampleStep")
+        SimpleStepBuilder<Person, Person> builder = new StepBuilder("sampleStep")
                 .repository(jobRepository)
                 .transactionManager(transactionManager)
                 .<Person, Person>chunk(10)
                 .reader(reader)
-                .processor(processor)
-                .writer(writer)
+                .processor(enrichmentProperties.isEnabled()
+                        ? PersonEnrichmentConfig.withOrganization(personOrganizationProcessor, processor)
+                        : processor);
+
+        // 보강 processor가 Chunk를 읽는 동안 조회 키를 모으도록 등록
+        if (enrichmentProperties.isEnabled()) {
+            builder.listener((ItemReadListener<Person>) personOrganizationProcessor);
+        }
+
+        return stepFaultTolerance.apply(builder, writer, jdbcWriter)
+                .listener((ItemWriteListener<Object>) throttleListener)
+                .listener(traceListener)
+                .listener((ChunkListener) flightRecorderListener)
+                .listener((StepExecutionListener) flightRecorderListener)
+                .listener(cancellationListener)
+                .listener((ChunkListener) throttleListener)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.minkyu.samplebatch.job.sample.chunk;
+
+import com.minkyu.samplebatch.domain.Person;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+
+/**
+ * Person을 JDBC batch UPDATE로 씁니다.
+ * Step 트랜잭션의 커넥션으로 바로 쓰므로 장애 허용 모드에서 savepoint 단위로 실패 항목을 격리할 때 사용합니다.
+ */
+@Component
+public class SampleJdbcWriter extends JdbcBatchItemWriter<Person> {
+
+    static final String UPDATE_SQL = "UPDATE person SET name = ?, age = ?, email = ?, organization = ? WHERE id = ?";
+
+    public SampleJdbcWriter(DataSource dataSource) {
+        setDataSource(dataSource);
+        setSql(UPDATE_SQL);
+        setItemPreparedStatementSetter((person, ps) -> {
+            ps.setString(1, person.getName());
+            ps.setInt(2, person.getAge());
+            ps.setString(3, person.getEmail());
+            if (person.getOrganization() == null) {
+                ps.setNull(4, Types.VARCHAR);
+            } else {
+                ps.setString(4, person.getOrganization());
+            }
+            ps.setLong(5, person.getId());
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.minkyu.samplebatch.job.sample.chunk;
 
+import com.minkyu.samplebatch.common.monitoring.jfr.ReaderPageFetchEvent;
 import com.minkyu.samplebatch.domain.Person;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.database.JpaPagingItemReader;
@@ -21,4 +22,19 @@ public class SampleReader extends JpaPagingItemReader<Person> {
         this.setQueryString("SELECT p FROM Person p");
         this.setName("personReader");
     }
-}
\ No newline at end of file
+
+    @Override
+    protected void doReadPage() {
+        ReaderPageFetchEvent event = new ReaderPageFetchEvent();
+        event.begin();
+        super.doReadPage();
+        event.end();
+        if (event.shouldCommit()) {
+            event.readerName = "personReader";
+            event.page = getPage();
+            event.pageSize = getPageSize();
+            event.itemCount = results != null ? results.size() : 0;
+            event.commit();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.minkyu.samplebatch.job.sample.chunk;
 
+import com.minkyu.samplebatch.common.monitoring.jfr.WriterFlushEvent;
 import com.minkyu.samplebatch.domain.Person;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.database.JpaItemWriter;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.persistence.EntityManagerFactory;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -18,4 +20,17 @@ public class SampleWriter extends JpaItemWriter<Person> {
     public void init() {
         this.setEntityManagerFactory(entityManagerFactory);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void write(List<? extends Person> items) {
+        WriterFlushEvent event = new WriterFlushEvent();
+        event.begin();
+        super.write(items);
+        event.end();
+        if (event.shouldCommit()) {
+            event.writerName = "personWriter";
+            event.itemCount = items.size();
+            event.commit();
+        }
+    }
+}
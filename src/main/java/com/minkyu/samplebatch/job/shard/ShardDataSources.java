@@ -0,0 +1,72 @@
+package com.minkyu.samplebatch.job.shard;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설정된 shard별 primary/replica 커넥션 풀을 관리합니다.
+ * 애플리케이션 기본 DataSource 자동 구성을 막지 않도록 빈으로 등록하지 않고 여기서만 보관합니다.
+ */
+@Slf4j
+public class ShardDataSources implements DisposableBean {
+
+    private final Map<String, Shard> shards = new LinkedHashMap<>();
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    public record Shard(String name, DataSource primary, DataSource replica) {
+    }
+
+    public ShardDataSources(List<ShardProperties.Shard> settings) {
+        if (settings.isEmpty()) {
+            throw new BatchException("SHARD_NOT_CONFIGURED", "No shards configured under batch.shard.shards");
+        }
+        for (ShardProperties.Shard shard : settings) {
+            if (shard.getName() == null || shards.containsKey(shard.getName())) {
+                throw new BatchException("SHARD_INVALID", "Shard name is missing or duplicated: " + shard.getName());
+            }
+            DataSource primary = createPool(shard.getName() + "-primary", shard.getPrimary(), false);
+            DataSource replica = shard.getReplica() == null
+                    ? primary
+                    : createPool(shard.getName() + "-replica", shard.getReplica(), true);
+            shards.put(shard.getName(), new Shard(shard.getName(), primary, replica));
+        }
+        log.info("Configured {} person shards: {}", shards.size(), shards.keySet());
+    }
+
+    public List<Shard> getShards() {
+        return List.copyOf(shards.values());
+    }
+
+    public Shard getShard(String name) {
+        Shard shard = shards.get(name);
+        if (shard == null) {
+            throw new BatchException("SHARD_NOT_FOUND", "Unknown shard: " + name);
+        }
+        return shard;
+    }
+
+    private DataSource createPool(String poolName, ShardProperties.Connection connection, boolean readOnly) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(connection.getUrl());
+        dataSource.setUsername(connection.getUsername());
+        dataSource.setPassword(connection.getPassword());
+        dataSource.setMaximumPoolSize(connection.getMaximumPoolSize());
+        dataSource.setReadOnly(readOnly);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
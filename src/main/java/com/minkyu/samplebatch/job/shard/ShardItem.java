@@ -0,0 +1,14 @@
+package com.minkyu.samplebatch.job.shard;
+
+import com.minkyu.samplebatch.domain.Person;
+
+/**
+ * 읽어 온 shard 이름을 함께 담은 항목입니다. writer가 소유 primary로 쓰기를 보내는 데 사용합니다.
+ * readEmail은 읽은 시점의 email로, processor가 person을 변경해도 유지되어 쓰기 조건에 사용됩니다.
+ */
+public record ShardItem(String shard, Person person, String readEmail) {
+
+    public ShardItem(String shard, Person person) {
+        this(shard, person, person == null ? null : person.getEmail());
+    }
+}
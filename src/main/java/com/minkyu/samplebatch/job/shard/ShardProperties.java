@@ -0,0 +1,56 @@
+package com.minkyu.samplebatch.job.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.shard")
+public class ShardProperties {
+
+    // shardedPersonJob 등록 여부
+    private boolean enabled = false;
+
+    private int chunkSize = 1000;
+
+    // shard별 keyset 조회 한 번에 가져올 행 수
+    private int fetchSize = 1000;
+
+    // shard별 미리 읽어 둘 최대 항목 수
+    private int queueCapacity = 2000;
+
+    // true면 id 순으로 병합, false면 도착 순서대로 반환
+    private boolean ordered = true;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String name;
+
+        // 쓰기 대상 (소유 primary)
+        private Connection primary = new Connection();
+
+        // 읽기 대상, 지정하지 않으면 primary에서 읽음
+        private Connection replica;
+    }
+
+    @Getter
+    @Setter
+    public static class Connection {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 4;
+    }
+}
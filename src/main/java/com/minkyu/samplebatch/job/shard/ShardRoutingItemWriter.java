@@ -0,0 +1,76 @@
+package com.minkyu.samplebatch.job.shard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 항목을 읽어 온 shard의 primary로 나누어 batch UPDATE합니다.
+ * <p>
+ * 항목은 replica에서 읽으므로 primary보다 오래된 값일 수 있습니다. 그래서 processor가 바꾸는 email만 쓰고,
+ * 읽은 시점의 email과 primary의 값이 같을 때만 갱신합니다. 읽은 뒤 primary에서 바뀐 행은 덮어쓰지 않고
+ * batch.shard.conflicts로 집계합니다.
+ * <p>
+ * shard별 쓰기는 해당 primary의 트랜잭션으로 커밋되며 Step 트랜잭션과 묶이지 않습니다.
+ * Chunk가 일부 shard만 커밋한 뒤 실패하면 재시작 시 같은 항목을 다시 처리하며, 이미 반영된 행은
+ * 다시 읽은 값이 같으면 같은 값으로 갱신되고 replica가 뒤처져 이전 값을 읽었으면 충돌로 건너뜁니다.
+ */
+@Slf4j
+public class ShardRoutingItemWriter implements ItemWriter<ShardItem> {
+
+    private static final String UPDATE_SQL = "UPDATE person SET email = ? WHERE id = ? AND email = ?";
+
+    private final Map<String, JdbcTemplate> jdbcTemplates = new LinkedHashMap<>();
+    private final Map<String, TransactionTemplate> transactionTemplates = new LinkedHashMap<>();
+    private final Map<String, Counter> conflictCounters = new LinkedHashMap<>();
+
+    public ShardRoutingItemWriter(ShardDataSources dataSources, MeterRegistry meterRegistry) {
+        for (ShardDataSources.Shard shard : dataSources.getShards()) {
+            jdbcTemplates.put(shard.name(), new JdbcTemplate(shard.primary()));
+            transactionTemplates.put(shard.name(),
+                    new TransactionTemplate(new DataSourceTransactionManager(shard.primary())));
+            conflictCounters.put(shard.name(), meterRegistry.counter("batch.shard.conflicts", "shard", shard.name()));
+        }
+    }
+
+    @Override
+    public void write(List<? extends ShardItem> items) {
+        Map<String, List<ShardItem>> byShard = items.stream()
+                .collect(Collectors.groupingBy(ShardItem::shard, LinkedHashMap::new, Collectors.toList()));
+
+        byShard.forEach((shard, shardItems) -> {
+            int[][] results = transactionTemplates.get(shard).execute(status ->
+                    jdbcTemplates.get(shard).batchUpdate(UPDATE_SQL, shardItems, shardItems.size(), (ps, item) -> {
+                        ps.setString(1, item.person().getEmail());
+                        ps.setLong(2, item.person().getId());
+                        ps.setString(3, item.readEmail());
+                    }));
+            recordConflicts(shard, results);
+        });
+    }
+
+    private void recordConflicts(String shard, int[][] results) {
+        int conflicts = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                // 드라이버가 건수를 알려 주지 않는 경우(SUCCESS_NO_INFO)는 반영된 것으로 간주
+                if (updated == 0) {
+                    conflicts++;
+                }
+            }
+        }
+        if (conflicts > 0) {
+            conflictCounters.get(shard).increment(conflicts);
+            log.warn("Skipped {} person updates changed on primary since read - shard: {}", conflicts, shard);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.minkyu.samplebatch.job.shard;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import com.minkyu.samplebatch.domain.Person;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 여러 shard(또는 replica)의 person 테이블을 동시에 읽어 하나의 흐름으로 병합하는 reader입니다.
+ * <p>
+ * shard마다 전용 스레드가 replica에서 id keyset 조회로 미리 읽어 제한된 큐에 채우므로
+ * 처리량이 커넥션 하나가 아니라 shard 수에 비례합니다. ordered이면 각 shard의 id 순서를 이용해
+ * k-way 병합으로 전체 id 순서를 유지하고, 아니면 도착한 순서대로 반환합니다.
+ * 재시작 위치는 shard별 마지막으로 반환한 id로 ExecutionContext에 저장합니다.
+ * <p>
+ * read는 한 스레드에서만 호출해야 합니다 (멀티스레드 Step 미지원).
+ */
+@Slf4j
+public class ShardedPersonItemReader implements ItemStreamReader<ShardItem> {
+
+    static final String LAST_ID_KEY = "shard.%s.lastId";
+
+    private static final String SELECT_SQL =
+            "SELECT id, name, age, email, organization FROM person WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final RowMapper<Person> ROW_MAPPER = (rs, rowNum) -> Person.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .age(rs.getInt("age"))
+            .email(rs.getString("email"))
+            .organization(rs.getString("organization"))
+            .build();
+
+    private static final Comparator<ShardItem> ID_ORDER = Comparator
+            .<ShardItem>comparingLong(item -> item.person().getId())
+            .thenComparing(ShardItem::shard);
+
+    private final List<ShardDataSources.Shard> shards;
+    private final int fetchSize;
+    private final int queueCapacity;
+    private final boolean ordered;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+    private List<Cursor> cursors;
+    private BlockingQueue<ShardItem> arrivals;
+    private PriorityQueue<ShardItem> heads;
+    private int remaining;
+
+    public ShardedPersonItemReader(List<ShardDataSources.Shard> shards, int fetchSize, int queueCapacity,
+                                   boolean ordered, MeterRegistry meterRegistry) {
+        this.shards = shards;
+        this.fetchSize = fetchSize;
+        this.queueCapacity = queueCapacity;
+        this.ordered = ordered;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * shard 하나의 조회 상태. queue에는 항목과 종료 표시(person이 null인 항목)가 들어갑니다.
+     */
+    private static final class Cursor {
+        private final ShardDataSources.Shard shard;
+        private final BlockingQueue<ShardItem> queue;
+        private final Counter readCounter;
+        private volatile long lastReadId;
+        private volatile Exception failure;
+
+        private Cursor(ShardDataSources.Shard shard, BlockingQueue<ShardItem> queue, Counter readCounter,
+                       long lastReadId) {
+            this.shard = shard;
+            this.queue = queue;
+            this.readCounter = readCounter;
+            this.lastReadId = lastReadId;
+        }
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        executor = Executors.newFixedThreadPool(shards.size(), new CustomizableThreadFactory("shard-reader-"));
+        cursors = new ArrayList<>(shards.size());
+        arrivals = ordered ? null : new ArrayBlockingQueue<>(queueCapacity * shards.size());
+        heads = null;
+        remaining = shards.size();
+
+        for (ShardDataSources.Shard shard : shards) {
+            long lastId = executionContext.getLong(String.format(LAST_ID_KEY, shard.name()), 0L);
+            Cursor cursor = new Cursor(shard,
+                    ordered ? new ArrayBlockingQueue<>(queueCapacity) : arrivals,
+                    meterRegistry.counter("batch.shard.read", "shard", shard.name()),
+                    lastId);
+            cursors.add(cursor);
+            executor.execute(() -> fetch(cursor, lastId));
+        }
+        log.info("Opened sharded reader over {} shards (ordered: {})", shards.size(), ordered);
+    }
+
+    /**
+     * shard의 replica에서 lastId 이후를 keyset으로 끝까지 읽어 큐에 채웁니다. 큐가 가득 차면 대기합니다.
+     */
+    private void fetch(Cursor cursor, long lastId) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(cursor.shard.replica());
+        jdbcTemplate.setFetchSize(fetchSize);
+        try {
+            long after = lastId;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Person> page = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, after, fetchSize);
+                for (Person person : page) {
+                    cursor.queue.put(new ShardItem(cursor.shard.name(), person));
+                }
+                if (page.size() < fetchSize) {
+                    break;
+                }
+                after = page.get(page.size() - 1).getId();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.error("Failed to read shard: {}", cursor.shard.name(), e);
+            cursor.failure = e;
+        }
+        try {
+            cursor.queue.put(new ShardItem(cursor.shard.name(), null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public ShardItem read() {
+        ShardItem item = ordered ? readOrdered() : readUnordered();
+        if (item != null) {
+            Cursor cursor = cursor(item.shard());
+            cursor.lastReadId = item.person().getId();
+            cursor.readCounter.increment();
+        }
+        return item;
+    }
+
+    private ShardItem readUnordered() {
+        while (remaining > 0) {
+            ShardItem item = take(arrivals);
+            if (item.person() != null) {
+                return item;
+            }
+            finish(cursor(item.shard()));
+        }
+        return null;
+    }
+
+    /**
+     * shard별 첫 항목을 heap에 두고, 가장 작은 id를 꺼낼 때마다 같은 shard의 다음 항목을 채웁니다.
+     */
+    private ShardItem readOrdered() {
+        if (heads == null) {
+            heads = new PriorityQueue<>(ID_ORDER);
+            cursors.forEach(this::advance);
+        }
+        ShardItem head = heads.poll();
+        if (head != null) {
+            advance(cursor(head.shard()));
+        }
+        return head;
+    }
+
+    private void advance(Cursor cursor) {
+        ShardItem next = take(cursor.queue);
+        if (next.person() != null) {
+            heads.add(next);
+        } else {
+            finish(cursor);
+        }
+    }
+
+    private void finish(Cursor cursor) {
+        remaining--;
+        if (cursor.failure != null) {
+            throw new BatchException("SHARD_READ_FAILED",
+                    "Failed to read shard: " + cursor.shard.name(), cursor.failure);
+        }
+    }
+
+    private ShardItem take(BlockingQueue<ShardItem> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchException("SHARD_READ_INTERRUPTED", "Interrupted while reading shards", e);
+        }
+    }
+
+    private Cursor cursor(String shard) {
+        for (Cursor cursor : cursors) {
+            if (cursor.shard.name().equals(shard)) {
+                return cursor;
+            }
+        }
+        throw new BatchException("SHARD_NOT_FOUND", "Unknown shard: " + shard);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        for (Cursor cursor : cursors) {
+            executionContext.putLong(String.format(LAST_ID_KEY, cursor.shard.name()), cursor.lastReadId);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
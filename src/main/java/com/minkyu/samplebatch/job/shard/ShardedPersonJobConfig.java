@@ -0,0 +1,92 @@
+package com.minkyu.samplebatch.job.shard;
+
+import com.minkyu.samplebatch.common.cancel.CancellationListener;
+import com.minkyu.samplebatch.common.monitoring.BatchTraceListener;
+import com.minkyu.samplebatch.common.monitoring.jfr.FlightRecorderListener;
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.sample.chunk.SampleProcessor;
+import com.minkyu.samplebatch.job.sample.listener.SampleJobListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 여러 shard에 나뉜 Person을 replica에서 병합해 읽고 소유 primary로 쓰는 Job입니다.
+ * batch.shard.enabled=true이고 batch.shard.shards가 설정된 경우에만 등록됩니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ShardProperties.class)
+@ConditionalOnProperty(prefix = "batch.shard", name = "enabled", havingValue = "true")
+public class ShardedPersonJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ShardProperties properties;
+    private final SampleProcessor sampleProcessor;
+    private final SampleJobListener jobListener;
+    private final BatchTraceListener traceListener;
+    private final CancellationListener cancellationListener;
+    private final FlightRecorderListener flightRecorderListener;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public ShardDataSources shardDataSources() {
+        return new ShardDataSources(properties.getShards());
+    }
+
+    @Bean
+    public Job shardedPersonJob() {
+        return new JobBuilder("shardedPersonJob")
+                .repository(jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(jobListener)
+                .listener(cancellationListener)
+                .listener(flightRecorderListener)
+                .start(shardedPersonStep())
+                .build();
+    }
+
+    @Bean
+    public Step shardedPersonStep() {
+        return new StepBuilder("shardedPersonStep")
+                .repository(jobRepository)
+                .transactionManager(transactionManager)
+                .<ShardItem, ShardItem>chunk(properties.getChunkSize())
+                .reader(shardedPersonReader())
+                .processor(shardItemProcessor())
+                .writer(new ShardRoutingItemWriter(shardDataSources(), meterRegistry))
+                .listener(traceListener)
+                .listener(cancellationListener)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ShardedPersonItemReader shardedPersonReader() {
+        return new ShardedPersonItemReader(shardDataSources().getShards(), properties.getFetchSize(),
+                properties.getQueueCapacity(), properties.isOrdered(), meterRegistry);
+    }
+
+    /**
+     * sampleJob과 같은 변환을 shard 항목에 적용합니다.
+     */
+    private ItemProcessor<ShardItem, ShardItem> shardItemProcessor() {
+        return item -> {
+            Person person = sampleProcessor.process(item.person());
+            return person == null ? null : new ShardItem(item.shard(), person, item.readEmail());
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.minkyu.samplebatch.job.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * person_change outbox 테이블에 대한 JDBC 접근을 담당합니다.
+ * 선점은 행 잠금(SKIP LOCKED)으로 하므로 여러 인스턴스가 같은 변경을 중복 처리하지 않으며,
+ * 처리한 변경은 같은 트랜잭션에서 삭제하여 처리 결과와 함께 커밋됩니다.
+ * 최대 시도 횟수만큼 실패한 변경은 삭제하지 않고 남겨 두어 원인을 확인한 뒤 attempts를 0으로 되돌려 재처리할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PersonChangeStore {
+
+    private static final RowMapper<ClaimedChange> CLAIMED_CHANGE_MAPPER =
+            (rs, rowNum) -> new ClaimedChange(rs.getLong(1), rs.getLong(2), rs.getLong(3));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StreamProperties properties;
+
+    /**
+     * 시도 횟수가 남은 가장 오래된 변경을 최대 limit 건 잠그고 반환합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    public List<ClaimedChange> claim(int limit) {
+        return jdbcTemplate.query("SELECT id, person_id, created_at FROM person_change WHERE attempts < ? "
+                        + "ORDER BY id LIMIT ? " + properties.getLockClause(),
+                CLAIMED_CHANGE_MAPPER, properties.getMaxAttempts(), limit);
+    }
+
+    /**
+     * 변경 하나를 다시 잠급니다. 다른 노드가 처리 중이거나 이미 처리되었으면 빈 목록을 반환합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    public List<ClaimedChange> claim(ClaimedChange change) {
+        return jdbcTemplate.query("SELECT id, person_id, created_at FROM person_change WHERE id = ? AND attempts < ? "
+                        + properties.getLockClause(),
+                CLAIMED_CHANGE_MAPPER, change.id(), properties.getMaxAttempts());
+    }
+
+    /**
+     * 처리 실패를 기록하고 누적 시도 횟수를 반환합니다.
+     */
+    public int recordFailure(ClaimedChange change) {
+        jdbcTemplate.update("UPDATE person_change SET attempts = attempts + 1 WHERE id = ?", change.id());
+        List<Integer> attempts = jdbcTemplate.queryForList("SELECT attempts FROM person_change WHERE id = ?",
+                Integer.class, change.id());
+        return attempts.isEmpty() ? 0 : attempts.get(0);
+    }
+
+    public void delete(List<ClaimedChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(changes.size(), "?"));
+        jdbcTemplate.update("DELETE FROM person_change WHERE id IN (" + placeholders + ")",
+                changes.stream().map(ClaimedChange::id).toArray());
+    }
+
+    public record ClaimedChange(long id, long personId, long createdAt) {
+    }
+}
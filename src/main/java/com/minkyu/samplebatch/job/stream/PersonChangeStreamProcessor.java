@@ -0,0 +1,248 @@
+package com.minkyu.samplebatch.job.stream;
+
+import com.minkyu.samplebatch.common.fault.TransientErrors;
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.domain.PersonRepository;
+import com.minkyu.samplebatch.job.sample.chunk.SampleProcessor;
+import com.minkyu.samplebatch.job.sample.chunk.SampleWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * person_change outbox를 폴링하여 변경된 Person을 작은 배치로 처리하는 상시 실행 마이크로 배치입니다.
+ * sampleJob과 같은 processor/writer 빈을 사용하며, 변경 선점, Person 쓰기, outbox 삭제를 한 트랜잭션으로 커밋합니다.
+ * <p>
+ * 폴링 간격은 배치가 가득 차면 즉시, 일부만 차면 최소 간격, 비어 있으면 최대 간격까지 두 배씩 늘립니다.
+ * <p>
+ * 배치 쓰기가 실패하면 같은 변경을 한 건씩 다시 처리하여 실패한 변경의 시도 횟수만 올리므로,
+ * 처리할 수 없는 변경 하나가 가장 오래된 위치에서 계속 재선점되어 스트림 전체를 막지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "batch.stream", name = "enabled", havingValue = "true")
+public class PersonChangeStreamProcessor implements SmartLifecycle {
+
+    private final PersonChangeStore changeStore;
+    private final PersonRepository personRepository;
+    private final SampleProcessor processor;
+    private final SampleWriter writer;
+    private final StreamProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer lagTimer;
+    private final Counter failedCounter;
+    private final Counter exhaustedCounter;
+    private final AtomicLong currentLagMs = new AtomicLong();
+
+    // 공용 스케줄러 스레드를 점유하지 않도록 전용 스레드에서 폴링
+    private ThreadPoolTaskScheduler scheduler;
+    private volatile boolean running;
+    private long idleIntervalMs;
+
+    public PersonChangeStreamProcessor(PersonChangeStore changeStore, PersonRepository personRepository,
+                                       SampleProcessor processor, SampleWriter writer, StreamProperties properties,
+                                       EntityManagerFactory entityManagerFactory,
+                                       MeterRegistry meterRegistry) {
+        this.changeStore = changeStore;
+        this.personRepository = personRepository;
+        this.processor = processor;
+        this.writer = writer;
+        this.properties = properties;
+        // JPA 쓰기와 outbox 삭제(JDBC)가 같은 커넥션/트랜잭션을 사용하도록 JPA 트랜잭션 매니저 사용
+        this.transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        this.idleIntervalMs = properties.getMinPollIntervalMs();
+
+        // 변경 발생부터 처리 커밋까지의 지연
+        this.lagTimer = meterRegistry.timer("batch.stream.lag");
+        this.failedCounter = meterRegistry.counter("batch.stream.failed");
+        // 최대 시도 횟수에 도달해 더 이상 선점하지 않는 변경 수
+        this.exhaustedCounter = meterRegistry.counter("batch.stream.exhausted");
+        // 마지막 배치에서 가장 오래된 변경의 지연 (ms)
+        Gauge.builder("batch.stream.lag.current", currentLagMs, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("person-change-");
+        scheduler.initialize();
+        running = true;
+        schedule(0);
+        log.info("Person change stream started - batch size: {}, poll interval: {}~{}ms",
+                properties.getBatchSize(), properties.getMinPollIntervalMs(), properties.getMaxPollIntervalMs());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        log.info("Person change stream stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void schedule(long delayMs) {
+        try {
+            if (running) {
+                scheduler.schedule(this::poll, Instant.now().plusMillis(delayMs));
+            }
+        } catch (TaskRejectedException e) {
+            // 종료 중
+        }
+    }
+
+    private void poll() {
+        long nextDelayMs;
+        try {
+            int processed = processBatch();
+            if (processed >= properties.getBatchSize()) {
+                // 밀린 변경이 있으면 바로 다음 배치 처리
+                idleIntervalMs = properties.getMinPollIntervalMs();
+                nextDelayMs = 0;
+            } else if (processed > 0) {
+                idleIntervalMs = properties.getMinPollIntervalMs();
+                nextDelayMs = idleIntervalMs;
+            } else {
+                currentLagMs.set(0);
+                nextDelayMs = idleIntervalMs;
+                idleIntervalMs = Math.min(idleIntervalMs * 2, properties.getMaxPollIntervalMs());
+            }
+        } catch (Exception e) {
+            log.error("Failed to process person changes", e);
+            idleIntervalMs = Math.min(idleIntervalMs * 2, properties.getMaxPollIntervalMs());
+            nextDelayMs = idleIntervalMs;
+        }
+        schedule(nextDelayMs);
+    }
+
+    /**
+     * 변경을 선점하여 처리하고 처리한 건수를 반환합니다.
+     */
+    private int processBatch() {
+        AtomicReference<List<PersonChangeStore.ClaimedChange>> claimed = new AtomicReference<>(List.of());
+        List<PersonChangeStore.ClaimedChange> changes;
+        try {
+            changes = transactionTemplate.execute(status -> {
+                claimed.set(changeStore.claim(properties.getBatchSize()));
+                return apply(claimed.get());
+            });
+        } catch (RuntimeException e) {
+            // 일시적 오류는 항목 문제가 아니므로 시도 횟수를 올리지 않고 다음 폴링에서 재시도
+            if (claimed.get().isEmpty() || TransientErrors.isTransient(e)) {
+                throw e;
+            }
+            log.warn("Person change batch failed, retrying {} changes one by one - {}",
+                    claimed.get().size(), e.toString());
+            changes = processIndividually(claimed.get());
+        }
+
+        recordLag(changes);
+        return changes.size();
+    }
+
+    /**
+     * 선점한 변경의 Person을 처리하여 쓰고 변경을 삭제합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    private List<PersonChangeStore.ClaimedChange> apply(List<PersonChangeStore.ClaimedChange> changes) {
+        if (changes.isEmpty()) {
+            return changes;
+        }
+
+        // 같은 Person의 변경이 여러 건이면 한 번만 처리
+        Set<Long> personIds = new LinkedHashSet<>();
+        changes.forEach(change -> personIds.add(change.personId()));
+
+        List<Person> items = new ArrayList<>(personIds.size());
+        for (Person person : personRepository.findAllById(personIds)) {
+            Person processedItem = process(person);
+            if (processedItem != null) {
+                items.add(processedItem);
+            }
+        }
+        if (!items.isEmpty()) {
+            writer.write(items);
+        }
+
+        changeStore.delete(changes);
+        return changes;
+    }
+
+    /**
+     * 변경마다 별도 트랜잭션으로 다시 선점해 처리합니다. 실패한 변경은 시도 횟수를 올리고 건너뜁니다.
+     */
+    private List<PersonChangeStore.ClaimedChange> processIndividually(List<PersonChangeStore.ClaimedChange> changes) {
+        List<PersonChangeStore.ClaimedChange> processed = new ArrayList<>(changes.size());
+        for (PersonChangeStore.ClaimedChange change : changes) {
+            try {
+                processed.addAll(transactionTemplate.execute(status -> apply(changeStore.claim(change))));
+            } catch (RuntimeException e) {
+                if (TransientErrors.isTransient(e)) {
+                    throw e;
+                }
+                recordFailure(change, e);
+            }
+        }
+        return processed;
+    }
+
+    private void recordFailure(PersonChangeStore.ClaimedChange change, Exception error) {
+        failedCounter.increment();
+        int attempts = changeStore.recordFailure(change);
+        if (attempts >= properties.getMaxAttempts()) {
+            exhaustedCounter.increment();
+            log.error("Person change exhausted {} attempts and will no longer be claimed - change id: {}, person id: {}",
+                    attempts, change.id(), change.personId(), error);
+        } else {
+            log.warn("Failed to process person change - change id: {}, person id: {}, attempt: {} - {}",
+                    change.id(), change.personId(), attempts, error.toString());
+        }
+    }
+
+    private Person process(Person person) {
+        try {
+            return processor.process(person);
+        } catch (Exception e) {
+            // 처리할 수 없는 항목은 배치 전체를 막지 않도록 건너뜀
+            failedCounter.increment();
+            log.warn("Skipped person change - person id: {} - {}", person.getId(), e.toString());
+            return null;
+        }
+    }
+
+    private void recordLag(List<PersonChangeStore.ClaimedChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long oldest = now;
+        for (PersonChangeStore.ClaimedChange change : changes) {
+            lagTimer.record(now - change.createdAt(), TimeUnit.MILLISECONDS);
+            oldest = Math.min(oldest, change.createdAt());
+        }
+        currentLagMs.set(now - oldest);
+    }
+}
@@ -0,0 +1,28 @@
+package com.minkyu.samplebatch.job.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.stream")
+public class StreamProperties {
+
+    private boolean enabled = false;
+
+    // 한 번에 선점할 변경 건수
+    private int batchSize = 100;
+
+    // 처리할 변경이 있을 때의 최소 폴링 간격 (ms)
+    private long minPollIntervalMs = 50;
+
+    // 유휴 시 최대 폴링 간격 (ms), 비어 있을 때마다 두 배로 늘어남
+    private long maxPollIntervalMs = 5000;
+
+    // 변경 하나의 최대 처리 시도 횟수. 도달하면 person_change에 남겨 두고 더 이상 선점하지 않음
+    private int maxAttempts = 3;
+
+    // 선점 쿼리의 잠금 구문 (SKIP LOCKED 미지원 DB는 FOR UPDATE)
+    private String lockClause = "FOR UPDATE SKIP LOCKED";
+}
@@ -0,0 +1,135 @@
+package com.minkyu.samplebatch.api.service;
+
+import com.minkyu.samplebatch.api.dto.request.JobLaunchRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 클라이언트 스레드 수에 따른 Job 실행(launch) 처리량을 측정합니다.
+ * 내장 H2에서 실행하며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:launch;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "batch.partition.worker.enabled=false",
+        "batch.stream.enabled=false"
+})
+class JobLaunchConcurrencyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JobLaunchConcurrencyBenchmarkTest.class);
+
+    private static final String JOB_NAME = "launchBenchmarkJob";
+    private static final int[] CLIENT_THREADS = {1, 2, 4, 8, 16};
+    private static final int LAUNCHES_PER_THREAD = 200;
+    private static final int WARMUP_LAUNCHES = 200;
+
+    @Autowired
+    private JobManagementService jobManagementService;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Test
+    void launchThroughputScalesWithClientThreads() throws Exception {
+        launch(1, WARMUP_LAUNCHES);
+
+        Map<Integer, Double> launchesPerSecond = new LinkedHashMap<>();
+        for (int threads : CLIENT_THREADS) {
+            int before = jobExplorer.getJobInstanceCount(JOB_NAME);
+            long elapsed = launch(threads, LAUNCHES_PER_THREAD);
+            int created = jobExplorer.getJobInstanceCount(JOB_NAME) - before;
+
+            assertThat(created).isEqualTo(threads * LAUNCHES_PER_THREAD);
+            double rate = created / (elapsed / 1_000_000_000.0);
+            launchesPerSecond.put(threads, rate);
+            log.info("threads={} launches={} elapsed={} ms -> {} launches/sec",
+                    threads, created, elapsed / 1_000_000, String.format("%.1f", rate));
+        }
+
+        double single = launchesPerSecond.get(1);
+        double bestConcurrent = launchesPerSecond.entrySet().stream()
+                .filter(entry -> entry.getKey() > 1)
+                .mapToDouble(Map.Entry::getValue)
+                .max()
+                .orElseThrow();
+        assertThat(bestConcurrent).isGreaterThanOrEqualTo(single);
+    }
+
+    /**
+     * threads 개의 클라이언트가 각자 launches 번씩 서로 다른 파라미터로 Job을 실행하고 경과 시간(ns)을 반환합니다.
+     */
+    private long launch(int threads, int launches) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < launches; j++) {
+                        jobManagementService.launchJob(JOB_NAME, request());
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JobLaunchRequest request() {
+        JobLaunchRequest request = new JobLaunchRequest();
+        request.setJobName(JOB_NAME);
+        request.setParameters(Map.of("seq", String.valueOf(sequence.incrementAndGet())));
+        return request;
+    }
+
+    @TestConfiguration
+    static class LaunchBenchmarkJobConfig {
+
+        @Bean
+        public Job launchBenchmarkJob(JobBuilderFactory jobBuilderFactory, StepBuilderFactory stepBuilderFactory) {
+            return jobBuilderFactory.get(JOB_NAME)
+                    .start(stepBuilderFactory.get(JOB_NAME + ".step")
+                            .tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED)
+                            .build())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.minkyu.samplebatch.api.service;
+
+import com.minkyu.samplebatch.api.dto.request.JobLaunchRequest;
+import com.minkyu.samplebatch.common.exception.BatchException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * READ_COMMITTED로 JobInstance를 생성해도 같은 파라미터의 동시 실행이 하나만 성공하고,
+ * 나머지는 launchJob에서 JOB_INSTANCE_EXISTS / JOB_ALREADY_RUNNING으로 응답하는지 확인합니다.
+ * <p>
+ * launchJob은 실행마다 timestamp 파라미터를 붙이므로, 같은 파라미터로 실행되도록 timestamp를 빼고
+ * 실제 JobRepository를 사용하는 JobLauncher에 위임합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:launch-duplicate;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "batch.partition.worker.enabled=false",
+        "batch.stream.enabled=false"
+})
+class JobLaunchDuplicateTest {
+
+    private static final String JOB_NAME = "launchDuplicateJob";
+    private static final String HOLD_KEY = "hold";
+
+    // hold 파라미터로 실행된 Step이 시작되면 열리고, release가 열릴 때까지 Step을 붙잡아 둠
+    private static volatile CountDownLatch holding = new CountDownLatch(1);
+    private static volatile CountDownLatch release = new CountDownLatch(0);
+
+    @Autowired
+    private JobManagementService jobManagementService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @MockBean
+    private JobLauncher jobLauncher;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SimpleJobLauncher delegate = new SimpleJobLauncher();
+        delegate.setJobRepository(jobRepository);
+        delegate.afterPropertiesSet();
+
+        when(jobLauncher.run(any(Job.class), any(JobParameters.class))).thenAnswer(invocation ->
+                delegate.run(invocation.getArgument(0), withoutTimestamp(invocation.getArgument(1))));
+    }
+
+    @Test
+    void concurrentLaunchesWithSameParametersCreateSingleInstance() throws Exception {
+        int threads = 8;
+        JobLaunchRequest request = request();
+        int instancesBefore = countInstances();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger launched = new AtomicInteger();
+        Queue<String> rejections = new ConcurrentLinkedQueue<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        jobManagementService.launchJob(JOB_NAME, request);
+                        launched.incrementAndGet();
+                    } catch (BatchException e) {
+                        rejections.add(e.getMessage());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(launched.get()).isEqualTo(1);
+        assertThat(rejections).hasSize(threads - 1)
+                .allMatch(code -> code.equals("JOB_INSTANCE_EXISTS") || code.equals("JOB_ALREADY_RUNNING"));
+        assertThat(countInstances()).isEqualTo(instancesBefore + 1);
+    }
+
+    @Test
+    void relaunchOfCompletedInstanceIsRejected() {
+        JobLaunchRequest request = request();
+        jobManagementService.launchJob(JOB_NAME, request);
+
+        assertThatThrownBy(() -> jobManagementService.launchJob(JOB_NAME, request))
+                .isInstanceOf(BatchException.class)
+                .hasMessage("JOB_INSTANCE_EXISTS");
+    }
+
+    @Test
+    void launchWhileSameInstanceIsRunningIsRejected() throws Exception {
+        holding = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        JobLaunchRequest request = request();
+        Map<String, String> parameters = new HashMap<>(request.getParameters());
+        parameters.put(HOLD_KEY, "true");
+        request.setParameters(parameters);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> running = executor.submit(() -> jobManagementService.launchJob(JOB_NAME, request));
+            assertThat(holding.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> jobManagementService.launchJob(JOB_NAME, request))
+                    .isInstanceOf(BatchException.class)
+                    .hasMessage("JOB_ALREADY_RUNNING");
+
+            release.countDown();
+            running.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private int countInstances() {
+        return jobExplorer.findJobInstancesByJobName(JOB_NAME, 0, Integer.MAX_VALUE).size();
+    }
+
+    private JobLaunchRequest request() {
+        JobLaunchRequest request = new JobLaunchRequest();
+        request.setJobName(JOB_NAME);
+        request.setParameters(Map.of("seq", String.valueOf(sequence.incrementAndGet()),
+                "test", String.valueOf(System.nanoTime())));
+        return request;
+    }
+
+    private static JobParameters withoutTimestamp(JobParameters parameters) {
+        Map<String, JobParameter> values = new HashMap<>(parameters.getParameters());
+        values.remove("timestamp");
+        return new JobParameters(values);
+    }
+
+    @TestConfiguration
+    static class LaunchDuplicateJobConfig {
+
+        @Bean
+        public Job launchDuplicateJob(JobBuilderFactory jobBuilderFactory, StepBuilderFactory stepBuilderFactory) {
+            return jobBuilderFactory.get(JOB_NAME)
+                    .start(stepBuilderFactory.get(JOB_NAME + ".step")
+                            .tasklet((contribution, chunkContext) -> {
+                                if (chunkContext.getStepContext().getJobParameters().containsKey(HOLD_KEY)) {
+                                    holding.countDown();
+                                    release.await(10, TimeUnit.SECONDS);
+                                }
+                                return RepeatStatus.FINISHED;
+                            })
+                            .build())
+                    .build();
+        }
+    }
+}
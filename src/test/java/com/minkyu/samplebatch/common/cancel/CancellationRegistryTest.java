@@ -0,0 +1,49 @@
+package com.minkyu.samplebatch.common.cancel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CancellationRegistryTest {
+
+    private final CancellationRegistry registry = new CancellationRegistry();
+
+    @Test
+    void boundedRequestReplacesEarlierGracefulRequest() {
+        CancellationRegistry.StopRequest graceful = registry.request(1L, StopMode.GRACEFUL);
+
+        CancellationRegistry.StopRequest bounded = registry.request(1L, StopMode.BOUNDED);
+
+        assertThat(bounded).isNotSameAs(graceful);
+        assertThat(registry.get(1L).getMode()).isEqualTo(StopMode.BOUNDED);
+        assertThat(bounded.getRequestedAtNanos()).isGreaterThanOrEqualTo(graceful.getRequestedAtNanos());
+    }
+
+    @Test
+    void gracefulRequestKeepsEarlierBoundedRequest() {
+        CancellationRegistry.StopRequest bounded = registry.request(1L, StopMode.BOUNDED);
+        bounded.cancel();
+
+        registry.request(1L, StopMode.GRACEFUL);
+
+        assertThat(registry.get(1L)).isSameAs(bounded);
+        assertThat(registry.isCancelled(1L)).isTrue();
+    }
+
+    @Test
+    void sameModeKeepsFirstRequest() {
+        CancellationRegistry.StopRequest first = registry.request(1L, StopMode.GRACEFUL);
+
+        assertThat(registry.request(1L, StopMode.GRACEFUL)).isSameAs(first);
+    }
+
+    @Test
+    void removeClearsRequest() {
+        registry.request(1L, StopMode.BOUNDED).cancel();
+
+        registry.remove(1L);
+
+        assertThat(registry.get(1L)).isNull();
+        assertThat(registry.isCancelled(1L)).isFalse();
+    }
+}
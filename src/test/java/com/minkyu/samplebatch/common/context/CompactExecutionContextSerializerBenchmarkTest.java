@@ -0,0 +1,91 @@
+package com.minkyu.samplebatch.common.context;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재시작 위치 키 수에 따른 ExecutionContext 저장 크기와 직렬화 시간을 JSON 형식과 비교해 기록합니다.
+ * 시간은 실행 환경에 따라 달라지므로 기록만 하고, 크기만 검증합니다.
+ */
+@Tag("benchmark")
+class CompactExecutionContextSerializerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactExecutionContextSerializerBenchmarkTest.class);
+
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MEASURE_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private final Jackson2ExecutionContextStringSerializer jackson = new Jackson2ExecutionContextStringSerializer();
+    private final CompactExecutionContextSerializer compact = new CompactExecutionContextSerializer(jackson);
+
+    @ParameterizedTest(name = "{0} shards")
+    @ValueSource(ints = {1, 8, 64})
+    void compactContextIsSmallerThanJson(int shards) throws Exception {
+        Map<String, Object> context = shardedStepContext(shards);
+
+        int jsonSize = serialize(jackson, context).length;
+        int compactSize = serialize(compact, context).length;
+
+        log.info("{} shards - json: {} bytes, {} ns/round trip; compact: {} bytes, {} ns/round trip",
+                shards, jsonSize, nanosPerRoundTrip(jackson, context), compactSize, nanosPerRoundTrip(compact, context));
+
+        assertThat(compactSize).isLessThan(jsonSize);
+    }
+
+    /**
+     * 예열 후 정해진 시간 동안 직렬화와 역직렬화를 반복하여 평균 시간을 반환합니다.
+     */
+    private static long nanosPerRoundTrip(ExecutionContextSerializer serializer, Map<String, Object> context)
+            throws Exception {
+        repeatFor(serializer, context, WARMUP_NANOS);
+        long started = System.nanoTime();
+        long roundTrips = repeatFor(serializer, context, MEASURE_NANOS);
+        return (System.nanoTime() - started) / roundTrips;
+    }
+
+    private static long repeatFor(ExecutionContextSerializer serializer, Map<String, Object> context, long nanos)
+            throws Exception {
+        long deadline = System.nanoTime() + nanos;
+        long roundTrips = 0;
+        do {
+            Map<String, Object> restored = serializer.deserialize(
+                    new ByteArrayInputStream(serialize(serializer, context)));
+            assertThat(restored).hasSameSizeAs(context);
+            roundTrips++;
+        } while (System.nanoTime() < deadline);
+        return roundTrips;
+    }
+
+    private static byte[] serialize(ExecutionContextSerializer serializer, Map<String, Object> context)
+            throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(context, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * shardedPersonJob처럼 shard별 재시작 위치를 저장하는 Step의 ExecutionContext입니다.
+     */
+    private static Map<String, Object> shardedStepContext(int shards) {
+        Map<String, Object> context = new HashMap<>();
+        context.put("batch.taskletType", "org.springframework.batch.core.step.item.ChunkOrientedTasklet");
+        context.put("batch.stepType", "org.springframework.batch.core.step.tasklet.TaskletStep");
+        for (int shard = 0; shard < shards; shard++) {
+            context.put("shard.shard" + shard + ".lastId", 98_765_432L + shard);
+        }
+        return context;
+    }
+}
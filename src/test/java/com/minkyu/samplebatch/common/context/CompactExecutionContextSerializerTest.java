@@ -0,0 +1,99 @@
+package com.minkyu.samplebatch.common.context;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactExecutionContextSerializerTest {
+
+    private final Jackson2ExecutionContextStringSerializer jackson = new Jackson2ExecutionContextStringSerializer();
+    private final CompactExecutionContextSerializer compact = new CompactExecutionContextSerializer(jackson);
+
+    @Test
+    void roundTripPreservesValueTypes() throws Exception {
+        Map<String, Object> context = new HashMap<>();
+        context.put("string", "한글 value");
+        context.put("long", -1234567890123L);
+        context.put("integer", 42);
+        context.put("double", 3.25d);
+        context.put("float", 1.5f);
+        context.put("true", true);
+        context.put("false", false);
+        context.put("date", new Date(1_700_000_000_000L));
+        context.put("decimal", new BigDecimal("12345.6789"));
+        context.put("null", null);
+
+        Map<String, Object> restored = deserialize(compact, serialize(compact, context));
+
+        assertThat(restored).isEqualTo(context);
+        assertThat(restored.get("long")).isInstanceOf(Long.class);
+        assertThat(restored.get("integer")).isInstanceOf(Integer.class);
+        assertThat(restored.get("float")).isInstanceOf(Float.class);
+    }
+
+    @Test
+    void writesVersionedAsciiPayload() throws Exception {
+        byte[] bytes = serialize(compact, Map.of("partition.minId", 1L));
+
+        String stored = new String(bytes, StandardCharsets.ISO_8859_1);
+        assertThat(stored).startsWith("~1:");
+        assertThat(stored.chars()).allMatch(c -> c < 0x80);
+    }
+
+    @Test
+    void readsContextsStoredInJsonFormat() throws Exception {
+        Map<String, Object> context = Map.of(
+                "batch.taskletType", "org.springframework.batch.core.step.item.ChunkOrientedTasklet",
+                "personReader.read.count", 123_456);
+
+        Map<String, Object> restored = deserialize(compact, serialize(jackson, context));
+
+        assertThat(restored).containsAllEntriesOf(context);
+    }
+
+    @Test
+    void fallsBackToJsonForUnsupportedValues() throws Exception {
+        Map<String, Object> context = new HashMap<>();
+        context.put("ids", new ArrayList<>(List.of("a", "b")));
+
+        byte[] bytes = serialize(compact, context);
+
+        assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).startsWith("{");
+        assertThat(deserialize(compact, bytes)).isEqualTo(context);
+    }
+
+    @Test
+    void rejectsUnknownFormatVersion() {
+        byte[] bytes = "~9:AA".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThatThrownBy(() -> deserialize(compact, bytes))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("version");
+    }
+
+    private static byte[] serialize(ExecutionContextSerializer serializer, Map<String, Object> context)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(context, out);
+        return out.toByteArray();
+    }
+
+    private static Map<String, Object> deserialize(ExecutionContextSerializer serializer, byte[] bytes)
+            throws IOException {
+        return serializer.deserialize(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,38 @@
+package com.minkyu.samplebatch.common.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyHasherTest {
+
+    @Test
+    void ignoresCaseAndSurroundingWhitespace() {
+        long expected = KeyHasher.hashNormalized("USER@EXAMPLE.COM");
+
+        assertThat(KeyHasher.hashNormalized("user@example.com")).isEqualTo(expected);
+        assertThat(KeyHasher.hashNormalized("  User@Example.com\t")).isEqualTo(expected);
+        assertThat(KeyHasher.hashNormalized(new StringBuilder("user@example.com"))).isEqualTo(expected);
+    }
+
+    @Test
+    void keepsInnerWhitespaceAndCharacters() {
+        assertThat(KeyHasher.hashNormalized("user@example.com"))
+                .isNotEqualTo(KeyHasher.hashNormalized("user @example.com"))
+                .isNotEqualTo(KeyHasher.hashNormalized("user@example.co"))
+                .isNotEqualTo(KeyHasher.hashNormalized("resu@example.com"));
+    }
+
+    @Test
+    void hashesNonAsciiCharactersWithBothBytes() {
+        // 하위 바이트가 같은 문자도 상위 바이트까지 해시에 반영
+        assertThat(KeyHasher.hashNormalized("Ł")).isNotEqualTo(KeyHasher.hashNormalized("A"));
+        assertThat(KeyHasher.hashNormalized("홍길동@example.com"))
+                .isEqualTo(KeyHasher.hashNormalized(" 홍길동@EXAMPLE.COM "));
+    }
+
+    @Test
+    void emptyAndBlankKeysHashAlike() {
+        assertThat(KeyHasher.hashNormalized("   ")).isEqualTo(KeyHasher.hashNormalized(""));
+    }
+}
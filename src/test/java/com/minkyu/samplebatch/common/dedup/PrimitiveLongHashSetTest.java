@@ -0,0 +1,91 @@
+package com.minkyu.samplebatch.common.dedup;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveLongHashSetTest {
+
+    @ParameterizedTest(name = "off-heap: {0}")
+    @ValueSource(booleans = {false, true})
+    void addsAndDetectsDuplicates(boolean offHeap) {
+        PrimitiveLongHashSet set = PrimitiveLongHashSet.create(1_000, 0.75, offHeap);
+
+        for (long key = -500; key < 500; key++) {
+            assertThat(set.add(KeyHasher.mix(key))).isTrue();
+        }
+        for (long key = -500; key < 500; key++) {
+            assertThat(set.contains(KeyHasher.mix(key))).isTrue();
+            assertThat(set.add(KeyHasher.mix(key))).isFalse();
+        }
+
+        assertThat(set.size()).isEqualTo(1_000);
+        assertThat(set.contains(KeyHasher.mix(1_000))).isFalse();
+        assertThat(set.isOffHeap()).isEqualTo(offHeap);
+    }
+
+    @Test
+    void storesZeroKeyOutsideTable() {
+        PrimitiveLongHashSet set = PrimitiveLongHashSet.create(10, 0.75, false);
+
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsAddsBeyondLoadFactor() {
+        PrimitiveLongHashSet set = PrimitiveLongHashSet.withMemoryLimit(16 * Long.BYTES, 0.75, false);
+        assertThat(set.capacity()).isEqualTo(16);
+
+        for (long key = 1; key <= 12; key++) {
+            set.add(KeyHasher.mix(key));
+        }
+
+        assertThatThrownBy(() -> set.add(KeyHasher.mix(13)))
+                .isInstanceOf(BatchException.class)
+                .hasMessage("DEDUP_CAPACITY_EXCEEDED");
+        assertThat(set.add(KeyHasher.mix(1))).isFalse();
+    }
+
+    @Test
+    void sizesCapacityToPowerOfTwo() {
+        PrimitiveLongHashSet set = PrimitiveLongHashSet.create(1_000, 0.75, false);
+
+        assertThat(set.capacity()).isEqualTo(2_048);
+        assertThat(set.memoryBytes()).isEqualTo(2_048L * Long.BYTES);
+    }
+
+    @Test
+    void offHeapCapacityStaysWithinSingleDirectBuffer() {
+        // 약 1억 건은 2^27 슬롯으로 수용하고, 그 이상은 direct buffer 한도를 넘으므로 거부
+        assertThat(PrimitiveLongHashSet.capacityFor((long) Math.ceil(100_000_000 / 0.75), true))
+                .isEqualTo(PrimitiveLongHashSet.MAX_OFF_HEAP_CAPACITY);
+        assertThatThrownBy(() -> PrimitiveLongHashSet.capacityFor(PrimitiveLongHashSet.MAX_OFF_HEAP_CAPACITY + 1L, true))
+                .isInstanceOf(BatchException.class)
+                .hasMessage("DEDUP_CAPACITY_EXCEEDED");
+        assertThat(PrimitiveLongHashSet.capacityFor(PrimitiveLongHashSet.MAX_OFF_HEAP_CAPACITY + 1L, false))
+                .isEqualTo(PrimitiveLongHashSet.MAX_OFF_HEAP_CAPACITY << 1);
+    }
+
+    @Test
+    void memoryLimitAboveDirectBufferLimitIsCapped() {
+        assertThat(PrimitiveLongHashSet.capacityWithin(4L * 1024 * 1024 * 1024, true))
+                .isEqualTo(PrimitiveLongHashSet.MAX_OFF_HEAP_CAPACITY);
+        assertThat(PrimitiveLongHashSet.capacityWithin(4L * 1024 * 1024 * 1024, false))
+                .isEqualTo(1 << 29);
+        assertThat(PrimitiveLongHashSet.capacityWithin(1_000, true)).isEqualTo(64);
+    }
+
+    @Test
+    void rejectsInvalidLoadFactor() {
+        assertThatThrownBy(() -> PrimitiveLongHashSet.create(10, 1.0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
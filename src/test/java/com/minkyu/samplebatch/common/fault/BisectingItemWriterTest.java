@@ -0,0 +1,106 @@
+package com.minkyu.samplebatch.common.fault;
+
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.job.sample.chunk.SampleJdbcWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BisectingItemWriterTest {
+
+    private static final int CHUNK_SIZE = 10;
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    private final List<Person> deadLetters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE person (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                + "age INT NOT NULL, email VARCHAR(255), organization VARCHAR(255))");
+        for (long id = 1; id <= CHUNK_SIZE; id++) {
+            jdbcTemplate.update("INSERT INTO person (id, name, age, email) VALUES (?, ?, ?, ?)",
+                    id, "person" + id, 20, "before" + id + "@example.com");
+        }
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void poisonedChunkCommitsGoodItemsAndDeadLettersOnlyTheBadOne() throws Exception {
+        List<Person> chunk = IntStream.rangeClosed(1, CHUNK_SIZE)
+                .mapToObj(id -> person(id, id == 7 ? null : "updated" + id))
+                .toList();
+
+        writeChunk(chunk);
+
+        assertThat(deadLetters).extracting(Person::getId).containsExactly(7L);
+        for (long id = 1; id <= CHUNK_SIZE; id++) {
+            String email = jdbcTemplate.queryForObject("SELECT email FROM person WHERE id = ?", String.class, id);
+            assertThat(email).isEqualTo(id == 7 ? "before7@example.com" : "after" + id + "@example.com");
+        }
+    }
+
+    @Test
+    void isolatesEveryBadItemInChunk() throws Exception {
+        List<Person> chunk = IntStream.rangeClosed(1, CHUNK_SIZE)
+                .mapToObj(id -> person(id, id == 2 || id == 9 ? null : "updated" + id))
+                .toList();
+
+        writeChunk(chunk);
+
+        assertThat(deadLetters).extracting(Person::getId).containsExactly(2L, 9L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM person WHERE email LIKE 'after%'",
+                Integer.class)).isEqualTo(CHUNK_SIZE - 2);
+    }
+
+    /**
+     * Step의 Chunk 트랜잭션처럼 바깥 트랜잭션 안에서 쓰고 커밋합니다.
+     */
+    private void writeChunk(List<Person> chunk) throws Exception {
+        SampleJdbcWriter delegate = new SampleJdbcWriter(dataSource);
+        delegate.afterPropertiesSet();
+        BisectingItemWriter<Person> writer = new BisectingItemWriter<>(delegate, transactionManager,
+                (item, error) -> deadLetters.add(item));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                writer.write(chunk);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static Person person(long id, String name) {
+        return Person.builder()
+                .id(id)
+                .name(name)
+                .age(30)
+                .email("after" + id + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.minkyu.samplebatch.common.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteThrottleTest {
+
+    @Test
+    void overloadHalvesRateAndNormalChunkAddsStepUpToLimit() {
+        WriteThrottle throttle = new WriteThrottle(properties(0), 1000);
+
+        throttle.onChunkCompleted(true);
+        assertThat(throttle.getRate()).isEqualTo(500);
+        throttle.onChunkCompleted(true);
+        assertThat(throttle.getRate()).isEqualTo(250);
+        assertThat(throttle.getBackoffCount()).isEqualTo(2);
+
+        throttle.onChunkCompleted(false);
+        assertThat(throttle.getRate()).isEqualTo(300);
+
+        for (int i = 0; i < 20; i++) {
+            throttle.onChunkCompleted(false);
+        }
+        assertThat(throttle.getRate()).isEqualTo(1000);
+    }
+
+    @Test
+    void backoffStopsAtMinLimit() {
+        WriteThrottle throttle = new WriteThrottle(properties(0), 100);
+
+        for (int i = 0; i < 10; i++) {
+            throttle.onChunkCompleted(true);
+        }
+
+        assertThat(throttle.getRate()).isEqualTo(10);
+    }
+
+    @Test
+    void overloadWithinCooldownIsIgnored() {
+        WriteThrottle throttle = new WriteThrottle(properties(60_000), 1000);
+
+        throttle.onChunkCompleted(true);
+        throttle.onChunkCompleted(true);
+
+        assertThat(throttle.getRate()).isEqualTo(500);
+        assertThat(throttle.getBackoffCount()).isEqualTo(1);
+    }
+
+    @Test
+    void limitBelowMinLimitLowersFloorToLimit() {
+        WriteThrottle throttle = new WriteThrottle(properties(0), 1000);
+
+        // 상한이 설정된 하한보다 낮으면 감속해도 상한보다 높아지지 않아야 함
+        throttle.setLimit(5);
+        assertThat(throttle.getRate()).isEqualTo(5);
+        throttle.onChunkCompleted(true);
+        assertThat(throttle.getRate()).isEqualTo(5);
+
+        // 상한을 다시 올리면 설정된 하한이 적용됨
+        throttle.setLimit(100);
+        throttle.onChunkCompleted(false);
+        assertThat(throttle.getRate()).isEqualTo(55);
+        for (int i = 0; i < 10; i++) {
+            throttle.onChunkCompleted(true);
+        }
+        assertThat(throttle.getRate()).isEqualTo(10);
+    }
+
+    @Test
+    void constructorLimitBelowMinLimitLowersFloor() {
+        WriteThrottle throttle = new WriteThrottle(properties(0), 4);
+
+        throttle.onChunkCompleted(true);
+
+        assertThat(throttle.getRate()).isEqualTo(4);
+    }
+
+    private static ThrottleProperties properties(long backoffCooldownMs) {
+        ThrottleProperties properties = new ThrottleProperties();
+        properties.setMinLimit(10);
+        properties.setBackoffFactor(0.5);
+        properties.setIncreaseStep(50);
+        properties.setBackoffCooldownMs(backoffCooldownMs);
+        return properties;
+    }
+}
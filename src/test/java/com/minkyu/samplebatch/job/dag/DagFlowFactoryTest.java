@@ -0,0 +1,239 @@
+package com.minkyu.samplebatch.job.dag;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DagFlowFactoryTest {
+
+    private static final String JOB_NAME = "dagJob";
+
+    private EmbeddedDatabase dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private JobRepository jobRepository;
+    private SimpleJobLauncher jobLauncher;
+
+    // 실행된 Step 이름 (실행 순서)
+    private final List<String> executed = new ArrayList<>();
+    // split 분기별로 실행된 Step 이름
+    private final List<List<String>> branches = new ArrayList<>();
+    private List<String> currentBranch;
+
+    /**
+     * split 분기를 호출한 스레드에서 바로 실행하여 분기별로 실행된 Step을 기록합니다.
+     */
+    private final TaskExecutor branchExecutor = task -> {
+        currentBranch = new ArrayList<>();
+        branches.add(currentBranch);
+        try {
+            task.run();
+        } finally {
+            currentBranch = null;
+        }
+    };
+
+    private DagFlowFactory factory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:org/springframework/batch/core/schema-h2.sql")
+                .build();
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean repositoryFactory = new JobRepositoryFactoryBean();
+        repositoryFactory.setDataSource(dataSource);
+        repositoryFactory.setTransactionManager(transactionManager);
+        repositoryFactory.afterPropertiesSet();
+        jobRepository = repositoryFactory.getObject();
+
+        factory = new DagFlowFactory(branchExecutor, jobRepository);
+
+        jobLauncher = new SimpleJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void contractsSingleDependencyChainsIntoOneBranch() throws Exception {
+        JobExecution execution = run(List.of(
+                definition("a"),
+                definition("b", "a"),
+                definition("c", "b"),
+                definition("x"),
+                definition("y", "x")), Set.of());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        // 체인으로 묶이지 않았다면 level마다 split이 생겨 분기가 5개가 됨
+        assertThat(branches).containsExactly(List.of("a", "b", "c"), List.of("x", "y"));
+    }
+
+    @Test
+    void groupsChainsByDependencyDepth() throws Exception {
+        JobExecution execution = run(List.of(
+                definition("a"),
+                definition("b", "a"),
+                definition("c", "b"),
+                definition("d", "a"),
+                definition("e", "c", "d")), Set.of());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        // a는 후행이 둘이라 혼자 level 0, b-c 체인과 d는 level 1에서 병렬, e는 둘 다 끝난 뒤 level 2
+        assertThat(branches).containsExactly(List.of("b", "c"), List.of("d"));
+        assertThat(executed).hasSize(5).startsWith("a").endsWith("e");
+    }
+
+    @Test
+    void rejectsCycle() {
+        assertThatThrownBy(() -> create(List.of(
+                definition("a", "c"),
+                definition("b", "a"),
+                definition("c", "b"))))
+                .isInstanceOf(BatchException.class)
+                .hasMessage("INVALID_STEP_GRAPH");
+    }
+
+    @Test
+    void rejectsDuplicateStepName() {
+        assertThatThrownBy(() -> create(List.of(
+                definition("a"),
+                definition("a"))))
+                .isInstanceOf(BatchException.class)
+                .hasMessage("INVALID_STEP_GRAPH");
+    }
+
+    @Test
+    void rejectsUnknownDependency() {
+        assertThatThrownBy(() -> create(List.of(
+                definition("a"),
+                definition("b", "missing"))))
+                .isInstanceOf(BatchException.class)
+                .hasMessage("INVALID_STEP_GRAPH");
+    }
+
+    @Test
+    void allowedFailureRunsOnlyFailureConditionDependents() throws Exception {
+        StepDefinition failing = definition("a");
+        failing.setAllowFailure(true);
+        StepDefinition onFailure = definition("b", "a");
+        onFailure.setCondition("FAILED");
+
+        JobExecution execution = run(List.of(
+                failing,
+                onFailure,
+                definition("c", "a")), Set.of("a"));
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(executed).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void failureConditionDependentIsSkippedWhenStepCompletes() throws Exception {
+        StepDefinition onFailure = definition("b", "a");
+        onFailure.setCondition("FAILED");
+
+        JobExecution execution = run(List.of(
+                definition("a"),
+                onFailure,
+                definition("c", "a")), Set.of());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(executed).containsExactlyInAnyOrder("a", "c");
+    }
+
+    @Test
+    void failureWithoutAllowFailureFailsJob() throws Exception {
+        JobExecution execution = run(List.of(
+                definition("a"),
+                definition("b", "a")), Set.of("a"));
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(executed).containsExactly("a");
+    }
+
+    @Test
+    void restartRunsFailedStepAndItsDependentsOnly() throws Exception {
+        List<StepDefinition> definitions = List.of(
+                definition("a"),
+                definition("b", "a"),
+                definition("c", "b"));
+
+        JobExecution failed = run(definitions, Set.of("b"));
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(executed).containsExactly("a", "b");
+
+        // 같은 파라미터로 다시 실행하면 완료된 a는 건너뛰고, b의 선행 조건은 이전 실행의 a로 판단
+        executed.clear();
+        JobExecution restarted = run(definitions, Set.of());
+
+        assertThat(restarted.getJobInstance().getId()).isEqualTo(failed.getJobInstance().getId());
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(executed).containsExactly("b", "c");
+    }
+
+    private JobExecution run(List<StepDefinition> definitions, Set<String> failing) throws Exception {
+        Job job = new JobBuilder(JOB_NAME)
+                .repository(jobRepository)
+                .start(factory.create(JOB_NAME, definitions, definition -> step(definition, failing)))
+                .end()
+                .build();
+        return jobLauncher.run(job, new JobParameters());
+    }
+
+    private void create(List<StepDefinition> definitions) {
+        factory.create(JOB_NAME, definitions, definition -> step(definition, Set.of()));
+    }
+
+    private Step step(StepDefinition definition, Set<String> failing) {
+        String name = definition.getName();
+        return new StepBuilder(DagFlowFactory.stepName(JOB_NAME, definition))
+                .repository(jobRepository)
+                .transactionManager(transactionManager)
+                .tasklet((contribution, chunkContext) -> {
+                    executed.add(name);
+                    if (currentBranch != null) {
+                        currentBranch.add(name);
+                    }
+                    if (failing.contains(name)) {
+                        throw new IllegalStateException("Step failed: " + name);
+                    }
+                    return RepeatStatus.FINISHED;
+                })
+                .build();
+    }
+
+    private static StepDefinition definition(String name, String... dependsOn) {
+        return new StepDefinition(name, List.of(dependsOn), null, null, false);
+    }
+}
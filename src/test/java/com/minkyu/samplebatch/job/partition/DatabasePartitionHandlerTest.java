@@ -0,0 +1,176 @@
+package com.minkyu.samplebatch.job.partition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabasePartitionHandlerTest {
+
+    private static final String WORKER_STEP_NAME = "workerStep";
+    private static final long LEASE_DURATION_MS = 300;
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private JobRepository jobRepository;
+    private JobExplorer jobExplorer;
+    private PartitionWorkStore workStore;
+    private PartitionProperties properties;
+    private PartitionWorker worker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:org/springframework/batch/core/schema-h2.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE batch_partition_work (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "job_execution_id BIGINT NOT NULL, manager_step_execution_id BIGINT NOT NULL, "
+                + "step_name VARCHAR(100) NOT NULL, step_execution_id BIGINT NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, owner VARCHAR(100), lease_expires_at BIGINT, "
+                + "attempts INT NOT NULL, updated_at BIGINT)");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean repositoryFactory = new JobRepositoryFactoryBean();
+        repositoryFactory.setDataSource(dataSource);
+        repositoryFactory.setTransactionManager(transactionManager);
+        repositoryFactory.afterPropertiesSet();
+        jobRepository = repositoryFactory.getObject();
+
+        JobExplorerFactoryBean explorerFactory = new JobExplorerFactoryBean();
+        explorerFactory.setDataSource(dataSource);
+        explorerFactory.afterPropertiesSet();
+        jobExplorer = explorerFactory.getObject();
+
+        workStore = new PartitionWorkStore(jdbcTemplate);
+
+        properties = new PartitionProperties();
+        properties.setGridSize(2);
+        properties.setLeaseDurationMs(LEASE_DURATION_MS);
+        properties.setMaxAttempts(1);
+        properties.setManagerPollIntervalMs(50);
+        properties.getWorker().setNodeId("live-node");
+        properties.getWorker().setPollIntervalMs(50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.stop();
+        }
+        dataSource.shutdown();
+    }
+
+    @Test
+    void partitionOfKilledWorkerFailsJob() throws Exception {
+        JobExecution jobExecution = launch();
+        awaitTrue(() -> count("SELECT COUNT(*) FROM batch_partition_work") == 2);
+
+        // 파티션 하나를 선점한 노드가 lease를 갱신하지 못하고 종료된 상황
+        List<PartitionWorkStore.ClaimedWork> killed = workStore.claim("killed-node", 1,
+                LEASE_DURATION_MS, properties.getMaxAttempts());
+        assertThat(killed).hasSize(1);
+
+        startWorker();
+        awaitTrue(() -> !jobExplorer.getJobExecution(jobExecution.getId()).isRunning());
+
+        JobExecution finished = jobExplorer.getJobExecution(jobExecution.getId());
+        assertThat(finished.getStatus()).isEqualTo(BatchStatus.FAILED);
+
+        StepExecution killedPartition = jobExplorer.getStepExecution(jobExecution.getId(),
+                killed.get(0).stepExecutionId());
+        assertThat(killedPartition.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(count("SELECT COUNT(*) FROM batch_partition_work WHERE status = 'COMPLETED'")).isEqualTo(1);
+    }
+
+    @Test
+    void jobCompletesWhenEveryPartitionCompletes() throws Exception {
+        JobExecution jobExecution = launch();
+        awaitTrue(() -> count("SELECT COUNT(*) FROM batch_partition_work") == 2);
+
+        startWorker();
+        awaitTrue(() -> !jobExplorer.getJobExecution(jobExecution.getId()).isRunning());
+
+        assertThat(jobExplorer.getJobExecution(jobExecution.getId()).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    }
+
+    /**
+     * Manager Step은 모든 파티션이 끝날 때까지 대기하므로 별도 스레드에서 실행합니다.
+     */
+    private JobExecution launch() throws Exception {
+        Step managerStep = new StepBuilder("managerStep")
+                .repository(jobRepository)
+                .partitioner(WORKER_STEP_NAME, gridSize -> Map.of(
+                        "partition0", new ExecutionContext(),
+                        "partition1", new ExecutionContext()))
+                .partitionHandler(new DatabasePartitionHandler(
+                        workStore, jobExplorer, jobRepository, properties, WORKER_STEP_NAME))
+                .build();
+        Job job = new JobBuilder("remotePartitionTestJob")
+                .repository(jobRepository)
+                .start(managerStep)
+                .build();
+
+        SimpleJobLauncher jobLauncher = new SimpleJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("manager-"));
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher.run(job, new JobParameters());
+    }
+
+    private void startWorker() {
+        Step workerStep = new StepBuilder(WORKER_STEP_NAME)
+                .repository(jobRepository)
+                .transactionManager(transactionManager)
+                .tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED)
+                .build();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean(WORKER_STEP_NAME, workerStep);
+
+        worker = new PartitionWorker(workStore, properties, jobExplorer, jobRepository, beanFactory);
+        worker.start();
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.minkyu.samplebatch.job.rule;
+
+import com.minkyu.samplebatch.domain.Person;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ItemProcessor;
+
+import static com.minkyu.samplebatch.job.rule.PersonRuleCompilerTest.HAND_WRITTEN;
+import static com.minkyu.samplebatch.job.rule.PersonRuleCompilerTest.RULES;
+import static com.minkyu.samplebatch.job.rule.PersonRuleCompilerTest.person;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컴파일된 규칙 processor와 동일한 로직의 직접 작성 processor의 처리량을 비교합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class PersonRuleCompilerBenchmarkTest {
+
+    private static final int ITEMS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURE_ROUNDS = 10;
+
+    @Test
+    void compiledRulesThroughputMatchesHandWrittenProcessor() throws Exception {
+        ItemProcessor<Person, Person> compiled = PersonRuleCompiler.compile(RULES);
+        Person[] people = new Person[ITEMS];
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(HAND_WRITTEN, people);
+            run(compiled, people);
+        }
+
+        long handWritten = Long.MAX_VALUE;
+        long compiledBest = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            handWritten = Math.min(handWritten, run(HAND_WRITTEN, people));
+            compiledBest = Math.min(compiledBest, run(compiled, people));
+        }
+
+        double handWrittenNsPerItem = (double) handWritten / ITEMS;
+        double compiledNsPerItem = (double) compiledBest / ITEMS;
+        System.out.printf("hand-written: %.2f ns/item, compiled: %.2f ns/item%n",
+                handWrittenNsPerItem, compiledNsPerItem);
+
+        assertThat(compiledNsPerItem).isLessThan(handWrittenNsPerItem * 1.5 + 5);
+    }
+
+    /**
+     * 항목 생성 비용은 측정에서 제외하고 처리 시간만 반환합니다.
+     */
+    private static long run(ItemProcessor<Person, Person> processor, Person[] people) throws Exception {
+        for (int i = 0; i < people.length; i++) {
+            people[i] = person(i);
+        }
+
+        long checksum = 0;
+        long started = System.nanoTime();
+        for (Person person : people) {
+            Person result = processor.process(person);
+            if (result != null) {
+                checksum += result.getAge();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertThat(checksum).isPositive();
+        return elapsed;
+    }
+}
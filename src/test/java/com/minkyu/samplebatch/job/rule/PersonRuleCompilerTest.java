@@ -0,0 +1,91 @@
+package com.minkyu.samplebatch.job.rule;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import com.minkyu.samplebatch.domain.Person;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PersonRuleCompilerTest {
+
+    static final List<PersonRule> RULES = List.of(
+            new PersonRule(RuleType.FILTER, PersonField.EMAIL, RuleOperation.NOT_NULL, null),
+            new PersonRule(RuleType.TRANSFORM, PersonField.NAME, RuleOperation.TRIM, null),
+            new PersonRule(RuleType.TRANSFORM, PersonField.EMAIL, RuleOperation.UPPERCASE, null),
+            new PersonRule(RuleType.FILTER, PersonField.AGE, RuleOperation.GREATER_THAN, "19"),
+            new PersonRule(RuleType.TRANSFORM, PersonField.AGE, RuleOperation.ADD, "1"));
+
+    // RULES와 같은 로직을 직접 작성한 processor
+    static final ItemProcessor<Person, Person> HAND_WRITTEN = person -> {
+        if (person.getEmail() == null) {
+            return null;
+        }
+        person.updateName(person.getName() == null ? null : person.getName().trim());
+        person.updateEmail(person.getEmail().toUpperCase());
+        if (person.getAge() <= 19) {
+            return null;
+        }
+        person.updateAge(person.getAge() + 1);
+        return person;
+    };
+
+    @Test
+    void compiledRulesMatchHandWrittenProcessor() throws Exception {
+        ItemProcessor<Person, Person> compiled = PersonRuleCompiler.compile(RULES);
+
+        for (int i = 0; i < 1000; i++) {
+            Person expected = HAND_WRITTEN.process(person(i));
+            Person actual = compiled.process(person(i));
+            if (expected == null) {
+                assertThat(actual).isNull();
+            } else {
+                assertThat(actual.getName()).isEqualTo(expected.getName());
+                assertThat(actual.getEmail()).isEqualTo(expected.getEmail());
+                assertThat(actual.getAge()).isEqualTo(expected.getAge());
+            }
+        }
+    }
+
+    @Test
+    void rejectsStringOperationOnNumericField() {
+        assertInvalid(new PersonRule(RuleType.TRANSFORM, PersonField.AGE, RuleOperation.UPPERCASE, null));
+    }
+
+    @Test
+    void rejectsNonNumericOperandForNumericField() {
+        assertInvalid(new PersonRule(RuleType.TRANSFORM, PersonField.AGE, RuleOperation.ADD, "one"));
+    }
+
+    @Test
+    void rejectsInvalidRegularExpression() {
+        assertInvalid(new PersonRule(RuleType.FILTER, PersonField.EMAIL, RuleOperation.MATCHES, "[a-z"));
+    }
+
+    @Test
+    void rejectsMissingOperand() {
+        assertInvalid(new PersonRule(RuleType.TRANSFORM, PersonField.NAME, RuleOperation.PREFIX, null));
+    }
+
+    @Test
+    void rejectsFilterOperationUsedAsTransform() {
+        assertInvalid(new PersonRule(RuleType.TRANSFORM, PersonField.EMAIL, RuleOperation.CONTAINS, "@"));
+    }
+
+    private static void assertInvalid(PersonRule rule) {
+        assertThatThrownBy(() -> PersonRuleCompiler.compile(List.of(rule)))
+                .isInstanceOf(BatchException.class)
+                .hasMessage("INVALID_RULE");
+    }
+
+    static Person person(int i) {
+        return Person.builder()
+                .name(" person" + (i % 100) + " ")
+                .age(i % 60)
+                .email(i % 50 == 0 ? null : "user" + (i % 100) + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.minkyu.samplebatch.job.shard;
+
+import com.minkyu.samplebatch.domain.Person;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRoutingItemWriterTest {
+
+    private ShardDataSources dataSources;
+    private JdbcTemplate shard0;
+    private JdbcTemplate shard1;
+    private SimpleMeterRegistry meterRegistry;
+    private ShardRoutingItemWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        dataSources = new ShardDataSources(List.of(
+                ShardedPersonItemReaderTest.shard("shard0"),
+                ShardedPersonItemReaderTest.shard("shard1")));
+        shard0 = new JdbcTemplate(dataSources.getShard("shard0").primary());
+        shard1 = new JdbcTemplate(dataSources.getShard("shard1").primary());
+        for (JdbcTemplate jdbcTemplate : List.of(shard0, shard1)) {
+            ShardedPersonItemReaderTest.createPersonTable(jdbcTemplate);
+        }
+        shard0.update("INSERT INTO person (id, name, age, email) VALUES (1, 'one', 30, 'one@old.com')");
+        shard0.update("INSERT INTO person (id, name, age, email) VALUES (3, 'three', 30, 'three@old.com')");
+        shard1.update("INSERT INTO person (id, name, age, email) VALUES (2, 'two', 30, 'two@old.com')");
+
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new ShardRoutingItemWriter(dataSources, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSources.destroy();
+    }
+
+    @Test
+    void routesUpdatesToOwningPrimary() {
+        writer.write(List.of(
+                item("shard0", 1, "one@old.com", "one@new.com"),
+                item("shard1", 2, "two@old.com", "two@new.com")));
+
+        assertThat(email(shard0, 1)).isEqualTo("one@new.com");
+        assertThat(email(shard1, 2)).isEqualTo("two@new.com");
+        assertThat(conflicts("shard0") + conflicts("shard1")).isZero();
+    }
+
+    @Test
+    void skipsRowChangedOnPrimarySinceRead() {
+        // replica에서 읽은 뒤 primary에서 email이 바뀐 행
+        shard0.update("UPDATE person SET email = 'three@primary.com' WHERE id = 3");
+
+        writer.write(List.of(
+                item("shard0", 1, "one@old.com", "one@new.com"),
+                item("shard0", 3, "three@old.com", "three@new.com")));
+
+        assertThat(email(shard0, 1)).isEqualTo("one@new.com");
+        assertThat(email(shard0, 3)).isEqualTo("three@primary.com");
+        assertThat(conflicts("shard0")).isEqualTo(1);
+    }
+
+    @Test
+    void writesOnlyEmail() {
+        Person person = Person.builder().id(1L).name("renamed").age(99).email("one@new.com").build();
+
+        writer.write(List.of(new ShardItem("shard0", person, "one@old.com")));
+
+        assertThat(shard0.queryForMap("SELECT name, age, email FROM person WHERE id = 1"))
+                .containsEntry("NAME", "one")
+                .containsEntry("AGE", 30)
+                .containsEntry("EMAIL", "one@new.com");
+    }
+
+    private ShardItem item(String shard, long id, String readEmail, String newEmail) {
+        Person person = Person.builder().id(id).name("person" + id).age(30).email(newEmail).build();
+        return new ShardItem(shard, person, readEmail);
+    }
+
+    private static String email(JdbcTemplate jdbcTemplate, long id) {
+        return jdbcTemplate.queryForObject("SELECT email FROM person WHERE id = ?", String.class, id);
+    }
+
+    private double conflicts(String shard) {
+        return meterRegistry.counter("batch.shard.conflicts", "shard", shard).count();
+    }
+}
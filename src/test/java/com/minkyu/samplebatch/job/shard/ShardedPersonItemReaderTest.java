@@ -0,0 +1,152 @@
+package com.minkyu.samplebatch.job.shard;
+
+import com.minkyu.samplebatch.common.exception.BatchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedPersonItemReaderTest {
+
+    private static final int SHARDS = 3;
+    private static final int ROWS = 30;
+
+    // 작은 페이지와 큐로 여러 번의 keyset 조회와 대기를 거치도록 함
+    private static final int FETCH_SIZE = 4;
+    private static final int QUEUE_CAPACITY = 2;
+
+    private ShardDataSources dataSources;
+    private ShardedPersonItemReader reader;
+
+    @BeforeEach
+    void setUp() {
+        List<ShardProperties.Shard> settings = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            settings.add(shard("shard" + i));
+        }
+        dataSources = new ShardDataSources(settings);
+
+        // id를 shard에 번갈아 배치: shard0 = 1, 4, 7 ... / shard1 = 2, 5, 8 ... / shard2 = 3, 6, 9 ...
+        for (int i = 0; i < SHARDS; i++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSources.getShards().get(i).primary());
+            createPersonTable(jdbcTemplate);
+            for (long id = i + 1; id <= ROWS; id += SHARDS) {
+                jdbcTemplate.update("INSERT INTO person (id, name, age, email) VALUES (?, ?, ?, ?)",
+                        id, "person" + id, 30, "person" + id + "@example.com");
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (reader != null) {
+            reader.close();
+        }
+        dataSources.destroy();
+    }
+
+    @Test
+    void orderedMergeReturnsGlobalIdOrder() {
+        reader = open(true, new ExecutionContext());
+
+        List<ShardItem> items = readAll();
+
+        assertThat(items).extracting(item -> item.person().getId())
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, ROWS).boxed().toList());
+        assertThat(items).allMatch(item -> item.shard().equals("shard" + (item.person().getId() - 1) % SHARDS));
+    }
+
+    @Test
+    void unorderedReturnsEveryRowOnce() {
+        reader = open(false, new ExecutionContext());
+
+        List<ShardItem> items = readAll();
+
+        assertThat(items).extracting(item -> item.person().getId())
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, ROWS).boxed().toList());
+    }
+
+    @Test
+    void restartResumesEachShardAfterLastReturnedId() {
+        ExecutionContext executionContext = new ExecutionContext();
+        reader = open(true, executionContext);
+        for (int i = 0; i < 10; i++) {
+            reader.read();
+        }
+        reader.update(executionContext);
+        reader.close();
+
+        // 미리 읽어 큐에 있던 항목이 아니라 마지막으로 반환한 id가 저장됨
+        assertThat(executionContext.getLong("shard.shard0.lastId")).isEqualTo(10L);
+        assertThat(executionContext.getLong("shard.shard1.lastId")).isEqualTo(8L);
+        assertThat(executionContext.getLong("shard.shard2.lastId")).isEqualTo(9L);
+
+        reader = open(true, executionContext);
+
+        assertThat(readAll()).extracting(item -> item.person().getId())
+                .containsExactlyElementsOf(LongStream.rangeClosed(11, ROWS).boxed().toList());
+    }
+
+    @Test
+    void shardReadFailureIsRethrownByOrderedRead() {
+        new JdbcTemplate(dataSources.getShard("shard1").primary()).execute("DROP TABLE person");
+        reader = open(true, new ExecutionContext());
+
+        assertThatThrownBy(this::readAll)
+                .isInstanceOf(BatchException.class)
+                .hasMessage("SHARD_READ_FAILED");
+    }
+
+    @Test
+    void shardReadFailureIsRethrownByUnorderedRead() {
+        new JdbcTemplate(dataSources.getShard("shard1").primary()).execute("DROP TABLE person");
+        reader = open(false, new ExecutionContext());
+
+        assertThatThrownBy(this::readAll)
+                .isInstanceOf(BatchException.class)
+                .hasMessage("SHARD_READ_FAILED");
+    }
+
+    private ShardedPersonItemReader open(boolean ordered, ExecutionContext executionContext) {
+        ShardedPersonItemReader opened = new ShardedPersonItemReader(dataSources.getShards(), FETCH_SIZE,
+                QUEUE_CAPACITY, ordered, new SimpleMeterRegistry());
+        opened.open(executionContext);
+        return opened;
+    }
+
+    private List<ShardItem> readAll() {
+        List<ShardItem> items = new ArrayList<>();
+        ShardItem item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    static ShardProperties.Shard shard(String name) {
+        ShardProperties.Connection primary = new ShardProperties.Connection();
+        primary.setUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        primary.setUsername("sa");
+        primary.setPassword("");
+
+        ShardProperties.Shard shard = new ShardProperties.Shard();
+        shard.setName(name);
+        shard.setPrimary(primary);
+        return shard;
+    }
+
+    static void createPersonTable(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE person (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                + "age INT NOT NULL, email VARCHAR(255), organization VARCHAR(255))");
+    }
+}
@@ -0,0 +1,147 @@
+package com.minkyu.samplebatch.job.stream;
+
+import com.minkyu.samplebatch.domain.Person;
+import com.minkyu.samplebatch.domain.PersonRepository;
+import com.minkyu.samplebatch.job.sample.chunk.SampleProcessor;
+import com.minkyu.samplebatch.job.sample.chunk.SampleWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 쓰기가 실패하면 변경을 한 건씩 다시 처리하여 나머지는 커밋하고,
+ * 처리할 수 없는 변경은 시도 횟수만 올리다가 최대 시도 횟수에 도달하면 더 이상 선점하지 않는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:person-change-stream;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "batch.partition.worker.enabled=false",
+        "batch.stream.enabled=false"
+})
+class PersonChangeStreamProcessorTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String POISON_NAME = "poison";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private SampleProcessor sampleProcessor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final AtomicInteger writes = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private PersonChangeStreamProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS person_change (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "person_id BIGINT NOT NULL, attempts INT NOT NULL DEFAULT 0, created_at BIGINT NOT NULL)");
+
+        StreamProperties properties = new StreamProperties();
+        properties.setBatchSize(10);
+        properties.setMaxAttempts(MAX_ATTEMPTS);
+        properties.setLockClause("FOR UPDATE");
+
+        // 이름이 poison인 Person이 포함되면 쓰기 전체가 실패하는 writer
+        SampleWriter writer = new SampleWriter(entityManagerFactory) {
+            @Override
+            public void write(List<? extends Person> items) {
+                writes.incrementAndGet();
+                if (items.stream().anyMatch(person -> POISON_NAME.equals(person.getName()))) {
+                    throw new IllegalStateException("Cannot write person: " + POISON_NAME);
+                }
+                super.write(items);
+            }
+        };
+        writer.init();
+
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new PersonChangeStreamProcessor(new PersonChangeStore(jdbcTemplate, properties),
+                personRepository, sampleProcessor, writer, properties, entityManagerFactory, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM person_change");
+        personRepository.deleteAll();
+    }
+
+    @Test
+    void poisonChangeDoesNotBlockOthersAndStopsBeingClaimedAfterMaxAttempts() {
+        long first = change(person("first", "first@example.com"));
+        long poison = change(person(POISON_NAME, "poison@example.com"));
+        long second = change(person("second", "second@example.com"));
+
+        // 배치 쓰기가 실패하고 한 건씩 다시 처리하여 poison 외의 변경은 커밋
+        assertThat(processBatch()).isEqualTo(2);
+        assertThat(remainingChanges()).containsExactly(poison);
+        assertThat(attempts(poison)).isEqualTo(1);
+        assertThat(email(first)).isEqualTo("FIRST@EXAMPLE.COM");
+        assertThat(email(second)).isEqualTo("SECOND@EXAMPLE.COM");
+        assertThat(email(poison)).isEqualTo("poison@example.com");
+
+        for (int attempt = 2; attempt <= MAX_ATTEMPTS; attempt++) {
+            assertThat(processBatch()).isZero();
+            assertThat(attempts(poison)).isEqualTo(attempt);
+        }
+        assertThat(meterRegistry.counter("batch.stream.exhausted").count()).isEqualTo(1);
+
+        // 최대 시도 횟수에 도달한 변경은 남아 있지만 더 이상 선점되지 않음
+        int writesBefore = writes.get();
+        assertThat(processBatch()).isZero();
+        assertThat(writes.get()).isEqualTo(writesBefore);
+        assertThat(attempts(poison)).isEqualTo(MAX_ATTEMPTS);
+        assertThat(remainingChanges()).containsExactly(poison);
+    }
+
+    private int processBatch() {
+        return ReflectionTestUtils.invokeMethod(processor, "processBatch");
+    }
+
+    private Person person(String name, String email) {
+        return personRepository.save(Person.builder().name(name).age(30).email(email).build());
+    }
+
+    /**
+     * Person의 변경을 기록하고, 확인하기 쉽도록 Person id를 반환합니다.
+     */
+    private long change(Person person) {
+        jdbcTemplate.update("INSERT INTO person_change (person_id, attempts, created_at) VALUES (?, 0, ?)",
+                person.getId(), System.currentTimeMillis());
+        return person.getId();
+    }
+
+    private List<Long> remainingChanges() {
+        return jdbcTemplate.queryForList("SELECT person_id FROM person_change ORDER BY id", Long.class);
+    }
+
+    private int attempts(long personId) {
+        return jdbcTemplate.queryForObject("SELECT attempts FROM person_change WHERE person_id = ?",
+                Integer.class, personId);
+    }
+
+    private String email(long personId) {
+        return jdbcTemplate.queryForObject("SELECT email FROM person WHERE id = ?", String.class, personId);
+    }
+}